@@ -0,0 +1,27 @@
+package bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * BenchRunner - Roda os benchmarks com o GCProfiler, que acrescenta a taxa de alocação
+ * (gc.alloc.rate e gc.alloc.rate.norm, em bytes por operação) a cada resultado.
+ * Uso: java bench.BenchRunner [regex dos benchmarks] [arquivo.json]
+ */
+public class BenchRunner {
+    public static void main(String[] args) throws RunnerException {
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.include(args.length > 0 ? args[0] : "bench\\..*Bench");
+        builder.addProfiler(GCProfiler.class);
+        if (args.length > 1) {
+            builder.resultFormat(ResultFormatType.JSON);
+            builder.result(args[1]);
+        }
+        Options options = builder.build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,106 @@
+package bench;
+
+import model.ConfigParser;
+import model.GanttChart;
+import model.GanttSvgWriter;
+import model.ProcessSource;
+import model.ProcessTable;
+import model.SimulationConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OutputBench - Vazão da entrada e da saída: leitura do arquivo de configuração
+ * (parse completo e streaming) e registro/geração do SVG do Gantt.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OutputBench {
+    @Param({"10000", "200000"})
+    public int processes;
+
+    private String configPath;
+    private String[] laneOf;
+    private int[] lengths;
+    private GanttChart chart;
+
+    @Setup
+    public void setup() throws IOException {
+        File file = Workloads.configFile("SRTF", 4, processes, processes * 10);
+        configPath = file.getPath();
+
+        // Fatias do Gantt: processos alternados com durações de 1 a 8 ticks
+        Random random = new Random(Workloads.SEED);
+        String[] ids = new String[Math.max(1, processes / 4)];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = "t" + i;
+        }
+        laneOf = new String[processes];
+        lengths = new int[processes];
+        for (int i = 0; i < processes; i++) {
+            laneOf[i] = ids[random.nextInt(ids.length)];
+            lengths[i] = 1 + random.nextInt(8);
+        }
+        chart = record();
+    }
+
+    @Benchmark
+    public int parse() throws IOException {
+        SimulationConfig config = new ConfigParser().parse(configPath);
+        return config.getProcessTable().size();
+    }
+
+    @Benchmark
+    public int parseStreaming() throws IOException {
+        try (SimulationConfig config = new ConfigParser().parseStreaming(configPath)) {
+            ProcessSource source = config.getProcessSource();
+            ProcessTable table = new ProcessTable();
+            int count = 0;
+            while (source.hasNext()) {
+                table.release(source.next(table));
+                count++;
+            }
+            return count;
+        }
+    }
+
+    @Benchmark
+    public GanttChart recordExecution() {
+        return record();
+    }
+
+    @Benchmark
+    public GanttChart writeSvg() throws IOException {
+        new GanttSvgWriter(chart).write(Writer.nullWriter());
+        return chart;
+    }
+
+    private GanttChart record() {
+        GanttChart gantt = new GanttChart();
+        int time = 0;
+        for (int i = 0; i < laneOf.length; i++) {
+            gantt.recordExecution(laneOf[i], time, time + lengths[i]);
+            time += lengths[i];
+        }
+        return gantt;
+    }
+}
@@ -0,0 +1,95 @@
+package bench;
+
+import model.CFS;
+import model.FIFO;
+import model.MLFQ;
+import model.PRIOP;
+import model.Process;
+import model.ProcessTable;
+import model.RR;
+import model.SRTF;
+import model.Scheduler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SchedulerBench - Latência de uma escolha de processo em cada algoritmo, em função do
+ * número de processos e do espalhamento dos ingressos.
+ * nextProcess: API antiga, varre a lista inteira a cada escolha.
+ * pickNext: API com fila de prontos; cada operação escolhe e devolve o processo à fila.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SchedulerBench {
+    @Param({"FIFO", "SRTF", "PRIOP", "RR", "MLFQ", "CFS"})
+    public String algorithm;
+
+    @Param({"100", "10000"})
+    public int processes;
+
+    @Param({"0", "1000"})
+    public int arrivalSpread;
+
+    private Scheduler scheduler;
+    private List<Process> processList;
+    private int currentTime;
+
+    @Setup
+    public void setup() {
+        ProcessTable table = Workloads.table(processes, arrivalSpread);
+        processList = table.asList();
+        // Metade dos processos já chegou (todos, se os ingressos não estão espalhados)
+        currentTime = arrivalSpread / 2;
+
+        scheduler = create(algorithm);
+        scheduler.bind(table);
+        for (int h : table.arrivalOrder()) {
+            if (table.getStartTime(h) <= currentTime) {
+                table.markReady(h, table.getStartTime(h));
+                scheduler.onArrival(h);
+            }
+        }
+    }
+
+    static Scheduler create(String algorithm) {
+        switch (algorithm) {
+            case "SRTF": return new SRTF();
+            case "PRIOP": return new PRIOP();
+            case "RR": return new RR();
+            case "MLFQ": return new MLFQ(new int[]{2, 4, 8});
+            case "CFS": return new CFS(2);
+            default: return new FIFO();
+        }
+    }
+
+    @Benchmark
+    public Process nextProcess() {
+        return scheduler.nextProcess(processList, currentTime);
+    }
+
+    @Benchmark
+    public int pickNext() {
+        // Escolhe e devolve à fila (como numa preempção), mantendo o tamanho da fila estável
+        int h = scheduler.pickNext(currentTime);
+        if (h != ProcessTable.NONE) {
+            scheduler.onPreempt(h);
+        }
+        return h;
+    }
+}
@@ -0,0 +1,75 @@
+package bench;
+
+import controller.SimController;
+import model.SimulationConfig;
+import model.VirtualClock;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SimulationBench - Simulação completa com VirtualClock, sem rastro e sem gerar SVG.
+ * O contador auxiliar "ticks" é reportado pelo JMH em ticks simulados por segundo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimulationBench {
+    @Param({"FIFO", "SRTF", "PRIOP", "RR", "MLFQ", "CFS"})
+    public String algorithm;
+
+    @Param({"1000", "20000"})
+    public int processes;
+
+    // tick = um callback por tick do relógio; event = saltos entre eventos
+    @Param({"tick", "event"})
+    public String mode;
+
+    private SimulationConfig config;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Ticks {
+        public long ticks;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            ticks = 0;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        // Ingressos espalhados pela duração média total, para haver ociosidade e filas
+        config = Workloads.config(algorithm, 4, processes, processes * 10);
+    }
+
+    @Benchmark
+    public int run(Ticks counters) throws InterruptedException {
+        // A cópia da tabela feita pelo SimController entra na medição
+        SimController controller = new SimController(new VirtualClock(), config);
+        controller.setGanttOutput(null);
+        if (mode.equals("event")) {
+            controller.runEventDriven();
+        } else {
+            controller.runToCompletion();
+        }
+        counters.ticks += controller.getCurrentTime();
+        return controller.getCompletedCount();
+    }
+}
@@ -0,0 +1,62 @@
+package bench;
+
+import model.ProcessTable;
+import model.SimulationConfig;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Workloads - Cargas sintéticas (com semente fixa) usadas pelos benchmarks.
+ */
+final class Workloads {
+    static final long SEED = 42L;
+
+    private Workloads() {
+    }
+
+    // Tabela com ingressos uniformes em [0, arrivalSpread], durações 1..20 e prioridades 1..10
+    static ProcessTable table(int processes, int arrivalSpread) {
+        Random random = new Random(SEED);
+        ProcessTable table = new ProcessTable(processes);
+        for (int i = 0; i < processes; i++) {
+            table.add(String.format("t%06d", i), i % 6,
+                    arrivalSpread > 0 ? random.nextInt(arrivalSpread + 1) : 0,
+                    1 + random.nextInt(20),
+                    1 + random.nextInt(10));
+        }
+        return table;
+    }
+
+    static SimulationConfig config(String algorithm, int quantum, int processes, int arrivalSpread) {
+        SimulationConfig config = new SimulationConfig();
+        ProcessTable source = table(processes, arrivalSpread);
+        for (int h = 0; h < source.size(); h++) {
+            config.getProcessTable().addFrom(source, h);
+        }
+        config.setAlgorithmName(algorithm);
+        config.setQuantum(quantum);
+        return config;
+    }
+
+    // Arquivo de configuração temporário, ordenado por ingresso (serve também para o streaming)
+    static File configFile(String algorithm, int quantum, int processes, int arrivalSpread) throws IOException {
+        ProcessTable table = table(processes, arrivalSpread);
+        int[] order = table.arrivalOrder();
+        File file = File.createTempFile("bench-config", ".txt");
+        file.deleteOnExit();
+        try (BufferedWriter out = new BufferedWriter(new FileWriter(file))) {
+            out.write(algorithm + ";" + quantum);
+            out.newLine();
+            for (int h : order) {
+                out.write(table.getId(h) + ";" + table.getColor(h) + ";" + table.getStartTime(h) + ";"
+                        + table.getDuration(h) + ";" + table.getPriority(h) + ";");
+                out.newLine();
+            }
+        }
+        return file;
+    }
+}
@@ -0,0 +1,521 @@
+package controller;
+
+import model.*;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+
+/**
+ * MultiCpuController - Simulação com N CPUs. Cada CPU tem sua própria fila de prontos
+ * (uma instância do escalonador por CPU) sobre a mesma tabela de processos.
+ *
+ * O tempo avança em segmentos de balanceInterval ticks. Na fronteira de cada segmento
+ * o coordenador distribui as chegadas do segmento entre as CPUs (política de alocação)
+ * e move processos prontos entre filas (política de migração). Dentro do segmento as
+ * CPUs não interagem, então cada uma avança sozinha, em threads de trabalho sincronizadas
+ * por uma barreira. Com balanceInterval = 1 a barreira é por tick. Com 1 CPU o resultado
+ * é o mesmo do SimController. Eventos de E/S não são simulados aqui: um processo com
+ * pedidos de E/S interrompe a execução com IllegalArgumentException. Escalonadores sem
+ * supportsMigration() rodam sem migração.
+ */
+public class MultiCpuController {
+    // Políticas de alocação das chegadas
+    public static final int PLACE_ROUND_ROBIN = 0;
+    public static final int PLACE_LEAST_LOADED = 1;
+
+    // Políticas de migração (aplicadas em cada fronteira de segmento)
+    public static final int MIGRATE_NONE = 0;
+    public static final int MIGRATE_STEAL = 1;   // CPU ociosa rouba metade da fila mais longa
+    public static final int MIGRATE_BALANCE = 2; // iguala a carga de todas as CPUs
+
+    private final SimulationConfig config;
+    private final ProcessTable table;
+    private final ProcessSource arrivals;
+    private final Cpu[] cpus;
+
+    private int placement = PLACE_LEAST_LOADED;
+    private int migration = MIGRATE_STEAL;
+    private int balanceInterval = 16;
+    private int threads;
+    private boolean recordGantt = true;
+
+    private int time;
+    private int nextCpu;
+    private long arrivedCount;
+    private long alreadyCompleted;
+    private long migrations;
+    private boolean finished;
+
+    // Segmento atual (escrito pelo coordenador antes da barreira)
+    private int segmentStart;
+    private int segmentEnd;
+    private CyclicBarrier barrier;
+    private Thread[] workers;
+    private volatile boolean shutdown;
+    private volatile RuntimeException failure;
+
+    public MultiCpuController(SimulationConfig config, int cpuCount) {
+        if (cpuCount < 1) {
+            throw new IllegalArgumentException("Número de CPUs inválido: " + cpuCount);
+        }
+        this.config = config;
+        if (config.getProcessSource() != null) {
+            this.table = new ProcessTable();
+            this.arrivals = config.getProcessSource();
+        } else {
+            this.table = config.getProcessTable().copy();
+            this.arrivals = ProcessSource.of(table);
+        }
+        this.cpus = new Cpu[cpuCount];
+        for (int i = 0; i < cpuCount; i++) {
+            Scheduler scheduler = SimController.createScheduler(config.getAlgorithmName(), config.getQuantums());
+            scheduler.bind(table);
+            cpus[i] = new Cpu(i, scheduler);
+        }
+        this.threads = Math.min(cpuCount, Runtime.getRuntime().availableProcessors());
+    }
+
+    public void setPlacement(int placement) { this.placement = placement; }
+
+    public void setMigration(int migration) { this.migration = migration; }
+
+    // Ticks entre fronteiras de balanceamento (1 = barreira a cada tick)
+    public void setBalanceInterval(int balanceInterval) { this.balanceInterval = Math.max(1, balanceInterval); }
+
+    // Threads de trabalho (1 = tudo na thread que chamou run())
+    public void setThreads(int threads) { this.threads = Math.max(1, Math.min(threads, cpus.length)); }
+
+    public void setRecordGantt(boolean recordGantt) { this.recordGantt = recordGantt; }
+
+    /**
+     * Roda a simulação até todos os processos terminarem.
+     */
+    public RunSummary run() {
+        startWorkers();
+        try {
+            time = 1; // primeiro tick é 1, como no SimController
+            while (true) {
+                releaseCompleted();
+                if (allIdle()) {
+                    if (!arrivals.hasNext()) break;
+                    // Nenhuma CPU tem trabalho: salta direto para a próxima chegada
+                    time = Math.max(time, arrivals.peekStartTime());
+                }
+                int end = time + balanceInterval;
+                assignArrivals(end);
+                migrate();
+                runSegment(end);
+                time = end;
+            }
+        } finally {
+            stopWorkers();
+            try {
+                arrivals.close();
+            } catch (IOException e) {
+                System.err.println("Erro ao fechar a fonte de processos: " + e.getMessage());
+            }
+        }
+        finished = true;
+        return getSummary();
+    }
+
+    // Distribui as chegadas de [time, end) entre as CPUs; cada uma as recebe no seu tick
+    private void assignArrivals(int end) {
+        while (arrivals.hasNext() && arrivals.peekStartTime() < end) {
+            int h = arrivals.next(table);
+            arrivedCount++;
+            if (table.isCompleted(h)) {
+                alreadyCompleted++;
+                continue;
+            }
+            if (table.getNextIoOffset(h) >= 0) {
+                // Ignorar a E/S daria tempos diferentes dos do SimController para a mesma configuração
+                throw new IllegalArgumentException("Simulação com várias CPUs não suporta E/S: processo "
+                        + table.getId(h) + " tem eventos de E/S.");
+            }
+            Cpu cpu;
+            if (placement == PLACE_ROUND_ROBIN) {
+                cpu = cpus[nextCpu];
+                nextCpu = (nextCpu + 1) % cpus.length;
+            } else {
+                cpu = cpus[0];
+                for (int i = 1; i < cpus.length; i++) {
+                    if (cpus[i].load() < cpu.load()) cpu = cpus[i];
+                }
+            }
+            cpu.addPending(h, Math.max(time, table.getStartTime(h)));
+        }
+    }
+
+    // Move processos prontos entre filas; a espera continua contando (readySince não muda)
+    private void migrate() {
+        if (migration == MIGRATE_NONE || cpus.length == 1 || !cpus[0].scheduler.supportsMigration()) return;
+        if (migration == MIGRATE_STEAL) {
+            for (Cpu thief : cpus) {
+                if (thief.load() > 0) continue;
+                Cpu victim = null;
+                for (Cpu c : cpus) {
+                    if (c != thief && (victim == null || c.scheduler.readyCount() > victim.scheduler.readyCount())) {
+                        victim = c;
+                    }
+                }
+                int steal = (victim.scheduler.readyCount() + 1) / 2;
+                for (int i = 0; i < steal; i++) {
+                    move(victim, thief);
+                }
+            }
+        } else {
+            while (true) {
+                Cpu max = cpus[0], min = cpus[0];
+                for (Cpu c : cpus) {
+                    if (c.load() > max.load()) max = c;
+                    if (c.load() < min.load()) min = c;
+                }
+                if (max.load() - min.load() <= 1 || max.scheduler.readyCount() == 0) break;
+                move(max, min);
+            }
+        }
+    }
+
+    // Migra com o estado do processo no escalonador de origem (nível, vruntime...), sem
+    // passar por pickNext/onArrival, que o tratariam como despacho e como chegada
+    private void move(Cpu from, Cpu to) {
+        int h = from.scheduler.migrateOut(time);
+        if (h == ProcessTable.NONE) return;
+        to.scheduler.migrateIn(h, from.scheduler.migrationState(h));
+        migrations++;
+    }
+
+    private void runSegment(int end) {
+        segmentStart = time;
+        segmentEnd = end;
+        int active = 0;
+        for (Cpu c : cpus) {
+            if (c.load() > 0) active++;
+        }
+        if (workers == null || active <= 1) {
+            // Pouco trabalho: a barreira custaria mais que o segmento
+            for (Cpu c : cpus) {
+                c.advance(segmentStart, segmentEnd);
+            }
+            return;
+        }
+        await();
+        await();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void startWorkers() {
+        if (threads <= 1) return;
+        barrier = new CyclicBarrier(threads + 1);
+        workers = new Thread[threads];
+        for (int w = 0; w < threads; w++) {
+            final int first = w;
+            workers[w] = new Thread(() -> {
+                while (true) {
+                    await();
+                    if (shutdown) return;
+                    try {
+                        for (int i = first; i < cpus.length; i += threads) {
+                            cpus[i].advance(segmentStart, segmentEnd);
+                        }
+                    } catch (RuntimeException e) {
+                        failure = e;
+                    }
+                    await();
+                }
+            }, "CPU-Worker-" + w);
+            workers[w].setDaemon(true);
+            workers[w].start();
+        }
+    }
+
+    private void stopWorkers() {
+        if (workers == null) return;
+        shutdown = true;
+        await();
+        for (Thread worker : workers) {
+            try {
+                worker.join(1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        workers = null;
+    }
+
+    private void await() {
+        try {
+            barrier.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulação interrompida.", e);
+        } catch (BrokenBarrierException e) {
+            throw new IllegalStateException("Barreira das CPUs quebrada.", e);
+        }
+    }
+
+    private boolean allIdle() {
+        for (Cpu c : cpus) {
+            if (c.load() > 0) return false;
+        }
+        return true;
+    }
+
+    // Em streaming, libera as linhas dos processos concluídos no segmento anterior
+    private void releaseCompleted() {
+        for (Cpu c : cpus) {
+            if (arrivals.isStreaming()) {
+                for (int i = 0; i < c.completedCount; i++) {
+                    table.release(c.completed[i]);
+                }
+            }
+            c.completedCount = 0;
+        }
+    }
+
+    public RunSummary getSummary() {
+        long completed = alreadyCompleted, switches = 0, wait = 0, turnaround = 0;
+        int finalTime = 0;
+        SchedulingStats stats = new SchedulingStats();
+        for (Cpu c : cpus) {
+            stats.add(c.stats);
+            completed += c.completedTotal;
+            switches += c.contextSwitches;
+            wait += c.totalWait;
+            turnaround += c.totalTurnaround;
+            finalTime = Math.max(finalTime, c.lastCompletion);
+        }
+        return new RunSummary(cpus[0].scheduler.getName() + "x" + cpus.length, config.getQuantum(),
+                finalTime, arrivedCount, completed, switches, wait, turnaround, stats);
+    }
+
+    /**
+     * Gantt com uma raia por CPU; cada intervalo tem o id e a cor do processo.
+     */
+    public GanttChart getGanttChart() {
+        GanttChart chart = new GanttChart();
+        for (Cpu c : cpus) {
+            chart.append(c.gantt);
+        }
+        return chart;
+    }
+
+    public int getCpuCount() { return cpus.length; }
+
+    public long getBusyTicks(int cpu) { return cpus[cpu].busyTicks; }
+
+    public long getMigrations() { return migrations; }
+
+    public boolean isFinished() { return finished; }
+
+    public ProcessTable getProcessTable() { return table; }
+
+    /**
+     * Uma CPU simulada: processo em execução, quantum e fila de prontos própria.
+     * Só é acessada pelo coordenador nas fronteiras e por um único worker no segmento.
+     */
+    private final class Cpu {
+        final int index;
+        final String lane;
+        final Scheduler scheduler;
+        final GanttChart gantt = new GanttChart();
+
+        int current = ProcessTable.NONE;
+        int lastStart;
+        int quantumCounter;
+        int currentQuantum = config.getQuantum();
+        boolean preemptRequested;
+
+        // Chegadas do segmento atual, em ordem, com o tick de entrega
+        int[] pendingHandles = new int[16];
+        int[] pendingTimes = new int[16];
+        int pendingCount;
+
+        // Concluídos no segmento (liberados pelo coordenador)
+        int[] completed = new int[16];
+        int completedCount;
+
+        long busyTicks;
+        long contextSwitches;
+        long completedTotal;
+        long totalWait;
+        long totalTurnaround;
+        int lastCompletion;
+        // Distribuições desta CPU (somadas em getSummary)
+        final SchedulingStats stats = new SchedulingStats();
+
+        Cpu(int index, Scheduler scheduler) {
+            this.index = index;
+            this.lane = "CPU" + index;
+            this.scheduler = scheduler;
+        }
+
+        int load() {
+            return (current != ProcessTable.NONE ? 1 : 0) + scheduler.readyCount() + pendingCount;
+        }
+
+        void addPending(int h, int arrivalTime) {
+            if (pendingCount == pendingHandles.length) {
+                pendingHandles = Arrays.copyOf(pendingHandles, pendingCount * 2);
+                pendingTimes = Arrays.copyOf(pendingTimes, pendingCount * 2);
+            }
+            pendingHandles[pendingCount] = h;
+            pendingTimes[pendingCount] = arrivalTime;
+            pendingCount++;
+        }
+
+        // Executa os ticks [from, until), saltando direto entre decisões
+        void advance(int from, int until) {
+            int t = from;
+            int p = 0;
+            while (t < until) {
+                while (p < pendingCount && pendingTimes[p] <= t) {
+                    deliver(p++);
+                }
+                if (needsDispatch()) {
+                    dispatch(t);
+                }
+                if (current == ProcessTable.NONE) {
+                    // Ociosa até a próxima chegada do segmento
+                    if (p < pendingCount) {
+                        t = pendingTimes[p];
+                        continue;
+                    }
+                    break;
+                }
+                int remaining = table.getRemaining(current);
+                int slice = Math.min(Math.min(remaining, Math.max(1, currentQuantum - quantumCounter)), until - t);
+                if (p < pendingCount && scheduler.preemptsOnWakeup()) {
+                    // Com preempção na chegada, a fatia para na próxima chegada
+                    slice = Math.min(slice, pendingTimes[p] - t);
+                }
+                table.executeTicks(current, slice);
+                quantumCounter += slice;
+                busyTicks += slice;
+                t += slice;
+
+                // Chegadas no meio da fatia entram na fila no seu próprio tick
+                while (p < pendingCount && pendingTimes[p] < t) {
+                    deliver(p++);
+                }
+                if (table.isCompleted(current)) {
+                    complete(t - 1);
+                }
+            }
+            while (p < pendingCount) {
+                deliver(p++);
+            }
+            pendingCount = 0;
+        }
+
+        private void deliver(int p) {
+            int h = pendingHandles[p];
+            if (table.getRemaining(h) == 0) {
+                // Duração 0: termina na chegada, como no SimController (uma fatia de 0 ticks
+                // deixaria advance() parado no mesmo tick)
+                completeEmpty(h, pendingTimes[p]);
+                return;
+            }
+            table.markReady(h, pendingTimes[p]);
+            scheduler.onArrival(h);
+            if (current != ProcessTable.NONE && !preemptRequested && scheduler.preemptsOnWakeup()
+                    && scheduler.shouldPreempt(current, h)) {
+                preemptRequested = true;
+            }
+        }
+
+        private boolean needsDispatch() {
+            return current == ProcessTable.NONE ||
+                   table.isCompleted(current) ||
+                   quantumCounter >= currentQuantum ||
+                   preemptRequested;
+        }
+
+        private void dispatch(int t) {
+            int previous = current;
+            preemptRequested = false;
+            if (previous != ProcessTable.NONE && !table.isCompleted(previous)) {
+                table.markReady(previous, t);
+                scheduler.onPreempt(previous);
+            }
+            current = scheduler.pickNext(t);
+            quantumCounter = 0;
+            if (current != ProcessTable.NONE) {
+                table.markDispatched(current, t);
+                currentQuantum = scheduler.quantumFor(current, config.getQuantum());
+                if (table.getRunTime(current) == 0) {
+                    stats.recordResponse(table.getPriority(current), t - table.getStartTime(current));
+                }
+            }
+            if (previous != ProcessTable.NONE && previous != current) {
+                if (recordGantt) gantt.recordExecution(lane, previous, table.getId(previous), table.getColor(previous), lastStart, t);
+                lastStart = t;
+            } else if (previous == ProcessTable.NONE && current != ProcessTable.NONE) {
+                lastStart = t;
+            }
+            if (previous != current && current != ProcessTable.NONE) {
+                contextSwitches++;
+            }
+        }
+
+        private void completeEmpty(int h, int time) {
+            table.setState(h, ProcessTable.TERMINATED);
+            int turnaround = time - table.getStartTime(h);
+            totalTurnaround += turnaround;
+            totalWait += table.getWaitTime(h);
+            stats.recordResponse(table.getPriority(h), turnaround);
+            stats.recordCompletion(table.getPriority(h), turnaround, table.getWaitTime(h));
+            completedTotal++;
+            lastCompletion = Math.max(lastCompletion, time);
+            addCompleted(h);
+        }
+
+        private void addCompleted(int h) {
+            if (completedCount == completed.length) {
+                completed = Arrays.copyOf(completed, completedCount * 2);
+            }
+            completed[completedCount++] = h;
+        }
+
+        private void complete(int tick) {
+            scheduler.onComplete(current);
+            if (recordGantt) {
+                gantt.recordExecution(lane, current, table.getId(current), table.getColor(current), lastStart, tick + 1);
+                gantt.finishProcess(current);
+            }
+            lastStart = tick + 1;
+            int turnaround = tick + 1 - table.getStartTime(current);
+            totalTurnaround += turnaround;
+            totalWait += table.getWaitTime(current);
+            stats.recordCompletion(table.getPriority(current), turnaround, table.getWaitTime(current));
+            completedTotal++;
+            lastCompletion = Math.max(lastCompletion, tick);
+            addCompleted(current);
+            current = ProcessTable.NONE;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        // Uso: MultiCpuController <config.txt> <cpus> [intervalo de balanceamento]
+        String path = args.length > 0 ? args[0] : "config/test.txt";
+        int cpuCount = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        SimulationConfig config = new ConfigParser().parse(path);
+        MultiCpuController controller = new MultiCpuController(config, cpuCount);
+        if (args.length > 2) controller.setBalanceInterval(Integer.parseInt(args[2]));
+
+        long start = System.nanoTime();
+        RunSummary summary = controller.run();
+        System.out.println(summary);
+        System.out.println("Executado em " + (System.nanoTime() - start) / 1_000_000 + " ms");
+        for (int i = 0; i < controller.getCpuCount(); i++) {
+            System.out.printf("CPU%d: ocupada %.1f%%%n", i,
+                    summary.getFinalTime() > 0 ? controller.getBusyTicks(i) * 100.0 / summary.getFinalTime() : 0.0);
+        }
+        System.out.print(summary.getStats().formatTable());
+        controller.getGanttChart().generateChart("simulation_gantt_cpus.svg");
+    }
+}
@@ -1,6 +1,17 @@
 package controller;
 
 import model.*;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 
 public class SimController {
@@ -9,12 +20,52 @@ public class SimController {
     private final Scheduler scheduler;
     private final GanttChart ganttChart;
 
-    private model.Process currentProcess;
+    // Tabela própria da execução (cópia da config), acessada por handles
+    private final ProcessTable table;
+
+    // Processos em ordem de chegada (startTime, id), puxados só quando chegam
+    private final ProcessSource arrivals;
+    private int arrivedCount = 0;
+
+    // Dispositivos de E/S: processos bloqueados e agenda de términos
+    private final IoDevices io = new IoDevices();
+
+    private int currentProcess = ProcessTable.NONE;
     private String lastProcessId;
     private int lastStartTime;
     private int quantumCounter = 0;
+    // Quantum do processo em execução (o escalonador pode variar por processo, ex.: MLFQ)
+    private int currentQuantum;
+    // Um processo que ficou pronto pediu a CPU (escalonadores com preempção na chegada, ex.: CFS)
+    private boolean preemptRequested;
+    private int completedCount = 0;
     // accessed from the clock tick thread and from main — make volatile for visibility
     private volatile boolean finished = false;
+    private volatile boolean stopped = false;
+
+    // Saída: rastro da simulação (desligado por padrão) e arquivo do Gantt (null = não gera arquivo)
+    private TraceSink trace = TraceSink.off();
+    private String ganttOutput = "simulation_gantt.svg";
+    // false = não guarda os intervalos (cargas enormes com memória constante)
+    private boolean recordGantt = true;
+    // Rastro binário do escalonamento (opcional) e se a ociosidade atual já foi registrada nele
+    private ScheduleTraceWriter scheduleTrace;
+    private boolean idleTraced;
+    // Métricas da execução (opcional)
+    private MetricsRegistry metrics;
+    // Checkpoints automáticos: arquivo, intervalo em ticks (0 = desligado) e próximo tick
+    private String checkpointPath;
+    private int checkpointInterval;
+    private int nextCheckpoint;
+    // Estado restaurado de um checkpoint (start() não zera o Gantt em andamento)
+    private boolean restored;
+
+    // Agregados da execução
+    private int contextSwitches = 0;
+    private long totalTurnaround = 0;
+    private long totalWait = 0;
+    // Distribuições de resposta, espera e turnaround (por prioridade e no total)
+    private final SchedulingStats stats = new SchedulingStats();
 
     public SimController(SystemClock clock, SimulationConfig config) {
         this.clock = clock;
@@ -24,120 +75,452 @@ public class SimController {
         this.lastStartTime = 0;
 
         // Algoritmo selecionado via config
-        String algorithm = config.getAlgorithmName().toUpperCase(Locale.ROOT);
+        scheduler = createScheduler(config.getAlgorithmName(), config.getQuantums());
+        currentQuantum = config.getQuantum();
+
+        if (config.getProcessSource() != null) {
+            // Streaming: a tabela recebe os processos à medida que chegam
+            this.table = new ProcessTable();
+            this.arrivals = config.getProcessSource();
+        } else {
+            // Cada execução trabalha sobre sua própria cópia da tabela de processos,
+            // com as chegadas ordenadas uma única vez
+            this.table = config.getProcessTable().copy();
+            this.arrivals = ProcessSource.of(table);
+        }
+        scheduler.bind(table);
+
+        // Assina os ticks do clock (um a um ou em lotes, com advance)
+        clock.addListener(new TickListener() {
+            @Override
+            public void onTick(int time) {
+                SimController.this.onTick(time);
+            }
+
+            @Override
+            public int onTicks(int from, int to) {
+                for (int time = from; time <= to; time++) {
+                    SimController.this.onTick(time);
+                    // Terminou (ou foi parada) no meio do lote: o relógio fica neste tick
+                    if (stopped) return time;
+                }
+                return to;
+            }
+        });
+    }
+
+    static Scheduler createScheduler(String algorithmName, int[] quantums) {
+        String algorithm = algorithmName.toUpperCase(Locale.ROOT);
         switch (algorithm) {
             case "FIFO":
-                scheduler = new FIFO();
-                break;
+                return new FIFO();
+            case "RR":
+                return new RR();
+            case "MLFQ":
+                return new MLFQ(quantums);
             case "PRIOP":
-                scheduler = new PRIOP();
-                break;
+                return new PRIOP();
             case "SRTF":
-                scheduler = new SRTF();
-                break;
+                return new SRTF();
+            case "CFS":
+                return new CFS(quantums[0]);
             default:
                 System.out.println("Escalonador Desconhecido: " + algorithm + " (Rodando em FIFO como padrão)");
-                scheduler = new FIFO();
-                break;
+                return new FIFO();
         }
-
-        // Assina os ticks do clock
-        clock.addListener(this::onTick);
     }
 
-    private void onTick() {
+    private void onTick(int time) {
         // Para cada tick, seleciona o proximo processo e executa um tick nele.
-        int time = clock.getCurrentTime();      
-      
+
+        wakeIo(time);
+        deliverArrivals(time);
+
         // Verifica se é necessária troca de processo
-        if (currentProcess == null ||
-            currentProcess.isCompleted() ||
-            quantumCounter >= config.getQuantum()) {
+        if (needsDispatch()) {
+            dispatch(time);
+        }
 
-            model.Process previousProcess = currentProcess;
-            currentProcess = scheduler.nextProcess(config.getProcessList(), time);
-            quantumCounter = 0;
+        // Só o processo em execução é tocado; a espera dos demais é contada por timestamps
+        if (metrics != null) {
+            metrics.setSimulatedTime(time);
+        }
+        if (currentProcess != ProcessTable.NONE) {
+            table.executeTick(currentProcess);
+            quantumCounter++;
+            if (metrics != null) metrics.recordBusy(1);
+            if (trace.isEnabled(TraceSink.FULL)) trace.record(TraceSink.RUN, time, table.getId(currentProcess),
+                    table.getRunTime(currentProcess), table.getDuration(currentProcess),
+                    quantumCounter, currentQuantum);
 
-            // IDs para Gantt
-            String previousProcessId = (previousProcess != null) ? previousProcess.getId() : null;
-            String currentProcessId = (currentProcess != null) ? currentProcess.getId() : null;
+            // Se terminou agora, registra no Gantt; se chegou a um pedido de E/S, bloqueia
+            if (table.isCompleted(currentProcess)) {
+                complete(time);
+            } else if (table.isIoDue(currentProcess)) {
+                block(time);
+            }
+        } else if (trace.isEnabled(TraceSink.FULL)) {
+            trace.record(TraceSink.IDLE, time, null);
+        }
 
-            // Detecta troca de processo
-            if (previousProcessId != null && !previousProcessId.equals(currentProcessId)) {
-                ganttChart.addCustomEvent(previousProcessId, lastStartTime, time, "running");
-                lastStartTime = time;
-            } else if (previousProcessId == null && currentProcessId != null) {
-                lastStartTime = time;
+        // Verificação de término da simulação
+        if (allDone()) {
+            finish(time);
+        } else if (checkpointInterval > 0 && time >= nextCheckpoint) {
+            autoCheckpoint(time);
+        }
+    }
+
+    /**
+     * Executa a simulação orientada a eventos: em vez de um callback por tick, o relógio
+     * salta direto para a próxima chegada, término ou fim de quantum. Produz os mesmos
+     * intervalos no Gantt e os mesmos tempos de execução e espera do modo por ticks.
+     */
+    public void runEventDriven() {
+        int time = clock.getCurrentTime() + 1;
+        if (metrics != null) metrics.start();
+
+        while (!finished) {
+            // Tudo até time - 1 já foi simulado: mesmo ponto de um checkpoint do modo por ticks
+            if (checkpointInterval > 0 && time - 1 >= nextCheckpoint) {
+                autoCheckpoint(time - 1);
+            }
+            wakeIo(time);
+            deliverArrivals(time);
+            if (needsDispatch()) {
+                dispatch(time);
             }
 
-            // Faz o log da troca
-            if (previousProcess != currentProcess) {
-                System.out.printf("[t=%02d] Context switch → %s%n",
-                        time, currentProcess != null ? currentProcess.getId() : "CPU Idle");
+            int now = time + 1;
+            boolean ran = currentProcess != ProcessTable.NONE;
+            if (ran) {
+                // Executa até o fim do quantum, o próximo pedido de E/S ou o fim do processo,
+                // o que vier primeiro. Chegadas e fins de E/S no meio do segmento não
+                // interrompem, assim como no modo por ticks.
+                int remaining = table.getRemaining(currentProcess);
+                int slice = Math.min(remaining, Math.max(1, currentQuantum - quantumCounter));
+                int ioOffset = table.getNextIoOffset(currentProcess) - table.getRunTime(currentProcess);
+                if (ioOffset > 0 && ioOffset < slice) {
+                    slice = ioOffset;
+                }
+                if (scheduler.preemptsOnWakeup()) {
+                    // Com preempção na chegada, o segmento para na próxima chegada ou fim de E/S
+                    int wake = Math.min(io.nextCompletion(),
+                            arrivals.hasNext() ? arrivals.peekStartTime() : Integer.MAX_VALUE);
+                    if (wake > time && wake - time < slice) {
+                        slice = wake - time;
+                    }
+                }
+                now = time + slice;
+
+                table.executeTicks(currentProcess, slice);
+                quantumCounter += slice;
+                if (metrics != null) {
+                    metrics.recordBusy(slice);
+                    metrics.setSimulatedTime(now - 1);
+                }
+                if (trace.isEnabled(TraceSink.FULL)) trace.record(TraceSink.RUN_SLICE, time, table.getId(currentProcess),
+                        slice, table.getRunTime(currentProcess), table.getDuration(currentProcess), 0);
+
+                // Entrega os fins de E/S e as chegadas do meio do segmento, cada um no seu tick
+                // (no mesmo tick, fins de E/S antes das chegadas, como no modo por ticks)
+                while (true) {
+                    int ioDone = io.nextCompletion();
+                    int arrival = arrivals.hasNext() ? Math.max(time, arrivals.peekStartTime()) : Integer.MAX_VALUE;
+                    if (Math.min(ioDone, arrival) >= now) break;
+                    if (ioDone <= arrival) {
+                        wakeIo(ioDone);
+                    } else {
+                        deliverArrivals(arrival);
+                    }
+                }
+
+                clock.advanceTo(now - 1);
+                if (table.isCompleted(currentProcess)) {
+                    complete(now - 1);
+                    if (allDone()) {
+                        finish(now - 1);
+                        break;
+                    }
+                } else if (table.isIoDue(currentProcess)) {
+                    block(now - 1);
+                }
             }
 
-            lastProcessId = currentProcessId;
+            // Próximo tick com algo a fazer: o seguinte ao segmento executado ou, com a CPU
+            // ociosa, a próxima chegada ou o próximo fim de E/S. A fonte já entrega as chegadas em
+            // ordem e os términos de E/S ficam na TimingWheel dos dispositivos, então basta o menor
+            int next = ran ? now : Math.min(io.nextCompletion(),
+                    arrivals.hasNext() ? arrivals.peekStartTime() : Integer.MAX_VALUE);
+            if (next == Integer.MAX_VALUE) {
+                // Só sobrou o tick atual (ex.: chegou um processo de duração 0): termina nele
+                clock.advanceTo(time);
+                finish(time);
+                break;
+            }
+            if (currentProcess == ProcessTable.NONE && next > now && trace.isEnabled(TraceSink.FULL)) {
+                trace.record(TraceSink.IDLE_UNTIL, time, null, next, 0, 0, 0);
+            }
+            clock.advanceTo(next - 1);
+            time = next;
         }
+    }
 
-        // Atualiza o processo executado e os em espera
-        for (model.Process p : config.getProcessList()) {
-            if (p.getStartTime() > time || p.isCompleted()) continue;
-
-            if (p == currentProcess) {
-                p.executeTick();
+    private void deliverArrivals(int time) {
+        // Entrega ao escalonador os processos que chegaram até agora
+        while (arrivals.hasNext() && arrivals.peekStartTime() <= time) {
+            int arrived = arrivals.next(table);
+            arrivedCount++;
+            if (scheduleTrace != null) {
+                scheduleTrace.arrival(time, arrived, table.getId(arrived), table.getStartTime(arrived),
+                        table.getDuration(arrived), table.getPriority(arrived));
+            }
+            if (!table.isCompleted(arrived)) {
+                if (!requestIo(arrived, time) && !completeEmpty(arrived, time)) {
+                    table.markReady(arrived, time);
+                    scheduler.onArrival(arrived);
+                    checkPreemption(arrived);
+                }
             } else {
-                p.waitTick();
+                completedCount++;
             }
         }
+    }
 
-        // Atualiza o Quantum e log
-        if (currentProcess != null) {
-            quantumCounter++;
-            System.out.printf("[t=%02d] Running %-4s (runtime=%d/%d, q=%d/%d)%n",
-                    time, currentProcess.getId(),
-                    currentProcess.getRunTime(), currentProcess.getDuration(),
-                    quantumCounter, config.getQuantum());
-
-            // Se terminou agora, registra no Gantt
-            if (currentProcess.isCompleted()) {
-                ganttChart.addCustomEvent(currentProcess.getId(), lastStartTime, time + 1, "terminated");
-                lastStartTime = time + 1;
-                currentProcess = null;
+    private void wakeIo(int time) {
+        // Processos cujo pedido de E/S terminou voltam para a fila de prontos
+        int h;
+        while ((h = io.poll(time)) != ProcessTable.NONE) {
+            if (scheduleTrace != null) {
+                scheduleTrace.wake(time, h);
+            }
+            if (trace.isEnabled(TraceSink.FULL)) trace.record(TraceSink.IO_DONE, time, table.getId(h));
+            // Pedidos seguidos no mesmo offset: volta direto para um dispositivo
+            if (!requestIo(h, time) && !completeEmpty(h, time)) {
+                table.markReady(h, time);
+                scheduler.onArrival(h);
+                checkPreemption(h);
             }
+        }
+    }
+
+    private void checkPreemption(int woken) {
+        // O escalonador decide se quem ficou pronto toma a CPU antes do fim do quantum
+        if (currentProcess != ProcessTable.NONE && !preemptRequested && scheduler.preemptsOnWakeup()
+                && scheduler.shouldPreempt(currentProcess, woken)) {
+            preemptRequested = true;
+        }
+    }
+
+    private boolean requestIo(int h, int time) {
+        // Se o processo chegou a um pedido de E/S, bloqueia na fila do dispositivo a partir de time
+        Event event = table.takeDueEvent(h);
+        if (event == null) {
+            return false;
+        }
+        table.markBlocked(h);
+        int done = io.request(h, event.getDevice(), event.getDuration(), time);
+        if (scheduleTrace != null) {
+            scheduleTrace.block(time, h);
+        }
+        if (trace.isEnabled(TraceSink.FULL)) trace.record(TraceSink.IO_BLOCK, time, table.getId(h), done, 0, 0, 0);
+        return true;
+    }
+
+    private void block(int time) {
+        // Processo em execução pediu E/S ao fim do tick time: sai da CPU como num término
+        if (recordGantt) ganttChart.recordExecution(currentProcess, table.getId(currentProcess), lastStartTime, time + 1);
+        lastStartTime = time + 1;
+        requestIo(currentProcess, time + 1);
+        currentProcess = ProcessTable.NONE;
+    }
+
+    private boolean needsDispatch() {
+        return currentProcess == ProcessTable.NONE ||
+               table.isCompleted(currentProcess) ||
+               quantumCounter >= currentQuantum ||
+               preemptRequested;
+    }
+
+    private void dispatch(int time) {
+        int previousProcess = currentProcess;
+        preemptRequested = false;
+        // Processo interrompido pelo quantum volta para a fila antes da nova escolha
+        if (previousProcess != ProcessTable.NONE && !table.isCompleted(previousProcess)) {
+            table.markReady(previousProcess, time);
+            scheduler.onPreempt(previousProcess);
+        }
+        if (metrics != null) {
+            int ready = scheduler.readyCount();
+            long decisionStart = System.nanoTime();
+            currentProcess = scheduler.pickNext(time);
+            metrics.recordDecision(System.nanoTime() - decisionStart, ready);
         } else {
-            System.out.printf("[t=%02d] CPU Idle%n", time);
+            currentProcess = scheduler.pickNext(time);
+        }
+        quantumCounter = 0;
+        if (currentProcess != ProcessTable.NONE) {
+            table.markDispatched(currentProcess, time);
+            currentQuantum = scheduler.quantumFor(currentProcess, config.getQuantum());
+            if (table.getRunTime(currentProcess) == 0) {
+                // Primeiro despacho: tempo de resposta
+                stats.recordResponse(table.getPriority(currentProcess), time - table.getStartTime(currentProcess));
+            }
         }
 
-        // Verificação de término da simulação
-    boolean allDone = config.getProcessList().stream().allMatch(model.Process::isCompleted);
-        if (allDone) {
-            System.out.println("All processes finished at t=" + time);
-            finished = true;
-            stop();
+        // Detecta troca de processo para o Gantt
+        if (previousProcess != ProcessTable.NONE && previousProcess != currentProcess) {
+            if (recordGantt) ganttChart.recordExecution(previousProcess, table.getId(previousProcess), lastStartTime, time);
+            lastStartTime = time;
+        } else if (previousProcess == ProcessTable.NONE && currentProcess != ProcessTable.NONE) {
+            lastStartTime = time;
         }
 
-        lastProcessId = currentProcessId;
+        // Conta e faz o log da troca
+        if (previousProcess != currentProcess && currentProcess != ProcessTable.NONE) {
+            contextSwitches++;
+            if (metrics != null) metrics.recordContextSwitch();
+        }
+        if (scheduleTrace != null) {
+            traceDispatch(previousProcess, time);
+        }
+        if (previousProcess != currentProcess && trace.isEnabled(TraceSink.FULL)) {
+            trace.record(TraceSink.SWITCH, time,
+                    currentProcess != ProcessTable.NONE ? table.getId(currentProcess) : null);
+        }
+
+        lastProcessId = currentProcess != ProcessTable.NONE ? table.getId(currentProcess) : null;
+    }
+
+    private void traceDispatch(int previousProcess, int time) {
+        if (previousProcess != currentProcess) {
+            if (previousProcess != ProcessTable.NONE) {
+                scheduleTrace.preempt(time, previousProcess);
+            }
+            if (currentProcess != ProcessTable.NONE) {
+                scheduleTrace.dispatch(time, currentProcess);
+            }
+        }
+        if (currentProcess == ProcessTable.NONE && !idleTraced) {
+            scheduleTrace.idle(time);
+        }
+        idleTraced = currentProcess == ProcessTable.NONE;
+    }
+
+    private void complete(int time) {
+        // Processo terminou no tick time: registra no Gantt e libera a CPU
+        scheduler.onComplete(currentProcess);
+        if (scheduleTrace != null) {
+            scheduleTrace.complete(time + 1, currentProcess);
+        }
+        if (recordGantt) {
+            ganttChart.recordExecution(currentProcess, table.getId(currentProcess), lastStartTime, time + 1);
+            ganttChart.finishProcess(currentProcess);
+        }
+        lastStartTime = time + 1;
+        int turnaround = time + 1 - table.getStartTime(currentProcess);
+        totalTurnaround += turnaround;
+        totalWait += table.getWaitTime(currentProcess);
+        stats.recordCompletion(table.getPriority(currentProcess), turnaround, table.getWaitTime(currentProcess));
+        if (arrivals.isStreaming()) {
+            // Em streaming a linha não é mais consultada: libera para o próximo processo
+            table.release(currentProcess);
+        }
+        currentProcess = ProcessTable.NONE;
+        completedCount++;
+    }
+
+    private boolean completeEmpty(int h, int time) {
+        // Nada a executar (duração 0): termina ao ficar pronto, sem passar pela CPU. Assim os
+        // dois modos concordam (uma fatia de 0 ticks não faria o modo por eventos avançar)
+        if (table.getRemaining(h) > 0) {
+            return false;
+        }
+        table.setState(h, ProcessTable.TERMINATED);
+        if (scheduleTrace != null) {
+            scheduleTrace.complete(time, h);
+        }
+        int turnaround = time - table.getStartTime(h);
+        totalTurnaround += turnaround;
+        totalWait += table.getWaitTime(h);
+        stats.recordResponse(table.getPriority(h), turnaround);
+        stats.recordCompletion(table.getPriority(h), turnaround, table.getWaitTime(h));
+        if (arrivals.isStreaming()) {
+            table.release(h);
+        }
+        completedCount++;
+        return true;
+    }
+
+    private boolean allDone() {
+        // Todos os processos já chegaram e todos os que chegaram terminaram
+        return !arrivals.hasNext() && completedCount == arrivedCount;
+    }
+
+    private void finish(int time) {
+        if (trace.isEnabled(TraceSink.SUMMARY)) trace.record(TraceSink.FINISHED, time, null);
+        finished = true;
+        stop(time);
     }
 
     public void start() {
         // Inicia a simulação
-        System.out.println("Simulação iniciando com o escalonador " + scheduler.getName() + "...");
-        lastStartTime = 0;
+        if (trace.isEnabled(TraceSink.SUMMARY)) trace.record(TraceSink.START, 0, scheduler.getName());
+        if (metrics != null) metrics.start();
+        if (!restored) lastStartTime = 0;
         clock.start();
     }
 
+    public void runToCompletion() throws InterruptedException {
+        // Roda a simulação e bloqueia até o fim (com VirtualClock, na velocidade máxima)
+        if (trace.isEnabled(TraceSink.SUMMARY)) trace.record(TraceSink.START, 0, scheduler.getName());
+        if (metrics != null) metrics.start();
+        if (!restored) lastStartTime = 0;
+        clock.runToCompletion();
+    }
+
     public void stop() {
-        int finalTime = clock.getCurrentTime();
+        stop(clock.getCurrentTime());
+    }
+
+    private synchronized void stop(int finalTime) {
+        // Pode ser chamado pelo fim da simulação e depois pela UI/main; só encerra uma vez
+        // (finalTime vem do tick: no lote de advance() o relógio já está no fim do lote)
+        if (stopped) return;
+        stopped = true;
+
+        // Fecha a espera de quem ainda está na fila (parada antes do fim), contando o último tick
+        for (int h = 0; h < table.size(); h++) {
+            if (h != currentProcess) {
+                table.flushWait(h, finalTime + 1);
+            }
+        }
       
-        if (lastProcessId != null && currentProcess != null && !currentProcess.isCompleted()) {
-            ganttChart.addCustomEvent(lastProcessId, lastStartTime, finalTime, "running");
+        if (lastProcessId != null && currentProcess != ProcessTable.NONE && !table.isCompleted(currentProcess)) {
+            if (recordGantt) ganttChart.recordExecution(currentProcess, lastProcessId, lastStartTime, finalTime);
         }
         
+        if (scheduleTrace != null) {
+            scheduleTrace.end(finalTime);
+        }
+        if (metrics != null) {
+            metrics.finish(finalTime);
+        }
+
         // Encerra a simulação e gera Gantt
         clock.stop();
-        ganttChart.generateGanttChart("simulation_gantt.svg");
-        System.out.println("Simulação encerrada em t=" + clock.getCurrentTime());
-        System.out.println("Gantt gerado: simulation_gantt.svg");
+        if (ganttOutput != null && recordGantt) {
+            ganttChart.generateChart(ganttOutput);
+        }
+        if (trace.isEnabled(TraceSink.SUMMARY)) trace.record(TraceSink.STOPPED, finalTime, null);
+        // Garante que o rastro desta execução já foi escrito quando stop() retorna
+        trace.flush();
+        // A fonte não entrega mais nada: libera o arquivo (ex.: uma execução de varredura)
+        try {
+            arrivals.close();
+        } catch (IOException e) {
+            System.err.println("Erro ao fechar a fonte de processos: " + e.getMessage());
+        }
     }
 
     public void step() {
@@ -157,6 +540,111 @@ public class SimController {
 
     public GanttChart getGanttChart() {
         return ganttChart;
+    }
+
+    public IoDevices getIoDevices() {
+        // Dispositivos de E/S desta execução (filas e ocupação)
+        return io;
+    }
+
+    public ProcessTable getProcessTable() {
+        // Tabela com o estado de execução desta simulação
+        return table;
+    }
+
+    public List<model.Process> getProcesses() {
+        // Visões Process sobre a tabela desta simulação (para a UI)
+        return table.asList();
+    }
+
+    public model.Process getCurrentProcess() {
+        // Processo em execução, ou null com a CPU ociosa
+        int h = currentProcess;
+        return h != ProcessTable.NONE ? table.view(h) : null;
+    }
+
+    public int getCurrentStartTime() {
+        // Início do intervalo em andamento do processo atual (ainda não registrado no Gantt)
+        return lastStartTime;
+    }
+
+    public void setTrace(TraceSink trace) {
+        // Destino e nível do rastro (TraceSink.off() em varreduras e execuções em lote)
+        this.trace = trace;
+        ganttChart.setTrace(trace);
+    }
+
+    public TraceSink getTrace() {
+        return trace;
+    }
+
+    public void setGanttOutput(String path) {
+        // Arquivo SVG gerado ao encerrar; null para não gerar
+        this.ganttOutput = path;
+    }
+
+    public void setScheduleTrace(ScheduleTraceWriter scheduleTrace) {
+        // Rastro binário da execução (fechado por quem o abriu, depois de stop())
+        this.scheduleTrace = scheduleTrace;
+    }
+
+    public void setMetrics(MetricsRegistry metrics) {
+        // Métricas desta execução; o clock passa a medir o despacho dos listeners
+        this.metrics = metrics;
+        clock.setMetrics(metrics);
+    }
+
+    public MetricsRegistry getMetrics() {
+        return metrics;
+    }
+
+    public RunSummary getSummary() {
+        return new RunSummary(scheduler.getName(), config.getQuantum(), clock.getCurrentTime(), arrivedCount,
+                completedCount, contextSwitches, totalWait, totalTurnaround, stats);
+    }
+
+    public SchedulingStats getStats() {
+        // Atualizadas a cada despacho e término; lidas pela thread da simulação ou no fim
+        return stats;
+    }
+
+    public void setRecordGantt(boolean recordGantt) {
+        // Desligado, o Gantt fica vazio e nenhum SVG é gerado
+        this.recordGantt = recordGantt;
+    }
+
+    // Escalonador da execução (ex.: para ajustar os parâmetros do CFS antes de rodar)
+    public Scheduler getScheduler() {
+        return scheduler;
+    }
+
+    public String getSchedulerName() {
+        return scheduler.getName();
+    }
+
+    public int getContextSwitches() {
+        return contextSwitches;
+    }
+
+    public int getCompletedCount() {
+        return completedCount;
+    }
+
+    public int getArrivedCount() {
+        // Processos já entregues pela fonte (em streaming a tabela guarda só os ativos)
+        return arrivedCount;
+    }
+
+    public long getTotalWait() {
+        // Soma da espera dos processos concluídos
+        return totalWait;
+    }
+
+    public long getTotalTurnaround() {
+        // Soma de (término - ingresso) dos processos concluídos
+        return totalTurnaround;
+    }
+
     /**
      * Indicates whether the simulation has finished. Safe to call from other threads.
      */
@@ -164,22 +652,224 @@ public class SimController {
         return finished;
     }
 
+    /**
+     * Grava o estado completo da simulação no tick atual: relógio, tabela de processos,
+     * processo em execução e quantum, fila de prontos do escalonador, dispositivos de E/S,
+     * posição da fonte de processos e o Gantt até aqui. Deve ser chamado entre ticks (pela
+     * thread da simulação ou com o relógio parado). O arquivo é escrito ao lado e renomeado,
+     * então um checkpoint anterior nunca fica pela metade. Métricas e rastros não são salvos.
+     */
+    public void checkpoint(String path) throws IOException {
+        checkpoint(path, clock.getCurrentTime());
+    }
+
+    private void checkpoint(String path, int time) throws IOException {
+        requireCheckpointSupport();
+        Path target = Path.of(path);
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (StateWriter out = new StateWriter(new BufferedOutputStream(new FileOutputStream(temp.toFile()), 1 << 16))) {
+            writeState(out, time);
+        }
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Restaura um checkpoint gravado com a mesma configuração (algoritmo, quantum e processos).
+     * Deve ser chamado antes de iniciar a simulação; a execução continua do tick seguinte ao
+     * do checkpoint, em qualquer um dos modos, e produz o mesmo resultado da execução original.
+     */
+    public void restore(String path) throws IOException {
+        if (clock.getCurrentTime() != 0 || clock.isRunning()) {
+            throw new IllegalStateException("Checkpoint só pode ser restaurado antes de iniciar a simulação.");
+        }
+        requireCheckpointSupport();
+        try (StateReader in = new StateReader(new BufferedInputStream(new FileInputStream(path), 1 << 16))) {
+            readState(in);
+        }
+        restored = true;
+        if (checkpointInterval > 0) {
+            nextCheckpoint = nextMultiple(clock.getCurrentTime(), checkpointInterval);
+        }
+    }
+
+    /**
+     * Grava um checkpoint em path a cada interval ticks simulados (sobrescrevendo o anterior).
+     * No modo orientado a eventos o checkpoint sai no primeiro salto que passa da marca.
+     * Falha já aqui (IOException) se o escalonador ou a fonte de processos não suportam checkpoint.
+     */
+    public void setCheckpointInterval(int interval, String path) throws IOException {
+        if (path != null && interval > 0) {
+            requireCheckpointSupport();
+        }
+        this.checkpointInterval = path != null ? Math.max(0, interval) : 0;
+        this.checkpointPath = path;
+        this.nextCheckpoint = nextMultiple(clock.getCurrentTime(), Math.max(1, interval));
+    }
+
+    // Escalonador e fonte de processos sabem gravar e restaurar o próprio estado
+    public boolean supportsCheckpoint() {
+        return scheduler.supportsCheckpoint() && arrivals.supportsCheckpoint();
+    }
+
+    private void requireCheckpointSupport() throws IOException {
+        if (!scheduler.supportsCheckpoint()) {
+            throw new IOException("Escalonador não suporta checkpoint: " + scheduler.getName());
+        }
+        if (!arrivals.supportsCheckpoint()) {
+            throw new IOException("Fonte de processos não suporta checkpoint.");
+        }
+    }
+
+    private void autoCheckpoint(int time) {
+        nextCheckpoint = nextMultiple(time, checkpointInterval);
+        try {
+            checkpoint(checkpointPath, time);
+            if (trace.isEnabled(TraceSink.SUMMARY)) trace.record(TraceSink.CHECKPOINT, time, checkpointPath);
+        } catch (IOException e) {
+            System.err.println("Erro ao gravar checkpoint: " + e.getMessage());
+        }
+    }
+
+    private static int nextMultiple(int time, int interval) {
+        return (time / interval + 1) * interval;
+    }
+
+    private void writeState(StateWriter out, int time) throws IOException {
+        out.writeHeader(CHECKPOINT_MAGIC, CHECKPOINT_VERSION);
+        out.writeString(scheduler.getName());
+        int[] quantums = config.getQuantums();
+        out.writeInts(quantums, quantums.length);
+        out.writeBoolean(recordGantt);
+
+        out.writeInt(time);
+        out.writeInt(currentProcess);
+        out.writeString(lastProcessId);
+        out.writeInt(lastStartTime);
+        out.writeInt(quantumCounter);
+        out.writeInt(currentQuantum);
+        out.writeBoolean(preemptRequested);
+        out.writeInt(arrivedCount);
+        out.writeInt(completedCount);
+        out.writeBoolean(finished);
+        out.writeInt(contextSwitches);
+        out.writeLong(totalTurnaround);
+        out.writeLong(totalWait);
+        out.writeBoolean(idleTraced);
+
+        table.writeState(out);
+        arrivals.writeState(out);
+        scheduler.writeState(out);
+        io.writeState(out);
+        if (recordGantt) {
+            ganttChart.writeState(out);
+        }
+        stats.writeState(out);
+    }
+
+    private void readState(StateReader in) throws IOException {
+        int version = in.readHeader(CHECKPOINT_MAGIC, CHECKPOINT_VERSION);
+        String algorithm = in.readString();
+        int[] quantums = in.readInts();
+        if (!scheduler.getName().equals(algorithm) || !Arrays.equals(quantums, config.getQuantums())) {
+            throw new IOException("Checkpoint de outra configuração: " + algorithm + " " + Arrays.toString(quantums));
+        }
+        boolean savedGantt = in.readBoolean();
+
+        int time = in.readInt();
+        currentProcess = in.readInt();
+        lastProcessId = in.readString();
+        lastStartTime = in.readInt();
+        quantumCounter = in.readInt();
+        currentQuantum = in.readInt();
+        preemptRequested = in.readBoolean();
+        arrivedCount = in.readInt();
+        completedCount = in.readInt();
+        finished = in.readBoolean();
+        contextSwitches = in.readInt();
+        totalTurnaround = in.readLong();
+        totalWait = in.readLong();
+        idleTraced = in.readBoolean();
+
+        table.readState(in);
+        arrivals.readState(in);
+        scheduler.bind(table);
+        scheduler.readState(in);
+        io.readState(in);
+        if (savedGantt) {
+            ganttChart.readState(in);
+        }
+        // Checkpoints da versão 1 não têm as distribuições: elas recomeçam vazias
+        if (version >= 2) {
+            stats.readState(in);
+        }
+        recordGantt = recordGantt && savedGantt;
+        clock.advanceTo(time);
+    }
+
+    // Cabeçalho do arquivo de checkpoint
+    private static final byte[] CHECKPOINT_MAGIC = {'S', 'C', 'K', 'P'};
+    // Versão 2: acrescenta as distribuições de SchedulingStats no fim
+    // Versão 3: a carga sintética grava o fluxo raiz inicial (réplicas de split())
+    // Versão 4: o Gantt grava o handle de cada intervalo
+    private static final int CHECKPOINT_VERSION = 4;
+
     public static void main(String[] args) throws Exception {
         // Cria o parser e carrega configuração
         ConfigParser parser = new ConfigParser();
         view.UIConfigurator.main(args);
         SimulationConfig config = parser.parse("config/test.txt");
 
-        // Inicia o controlador de simulação a depender do modo de execução
-        if (config.getRunMode() == 0) {
+        // Rastro completo no console; outro nível pode ser passado como -Dtrace=OFF|SUMMARY|FULL
+        TraceSink trace = TraceSink.toConsole(traceLevel(System.getProperty("trace", "FULL")));
+
+        // Inicia o controlador de simulação a depender do modo de execução (1 = automático)
+        if (config.getRunMode() == 1) {
             System.out.println("Rodando em modo automático.");
-            SimController controller = new SimController(new SystemClock(500), config);
-            controller.start();
-            Thread.sleep(4000);
-            controller.stop();
+            // -Dpace=N roda a N ticks por segundo de tempo real (sem ele, o mais rápido possível);
+            // -DcatchUp=ALL|LIMITED|SKIP escolhe o que fazer com prazos perdidos
+            String pace = System.getProperty("pace");
+            SystemClock clock = pace != null ? pacedClock(Double.parseDouble(pace), System.getProperty("catchUp", "ALL"))
+                    : new VirtualClock();
+            SimController controller = new SimController(clock, config);
+            controller.setTrace(trace);
+            // -Dmetrics=arquivo.json ou arquivo.csv exporta as métricas da execução
+            String metricsPath = System.getProperty("metrics");
+            if (metricsPath != null) controller.setMetrics(new MetricsRegistry());
+            // -Dresume=arquivo continua de um checkpoint; -Dcheckpoint=arquivo -DcheckpointEvery=N
+            // grava um checkpoint a cada N ticks (padrão 10000)
+            String resumePath = System.getProperty("resume");
+            if (resumePath != null) {
+                controller.restore(resumePath);
+                System.out.println("Retomando do tick " + controller.getClock().getCurrentTime() + ".");
+            }
+            String checkpointPath = System.getProperty("checkpoint");
+            if (checkpointPath != null) {
+                controller.setCheckpointInterval(Integer.getInteger("checkpointEvery", 10000), checkpointPath);
+            }
+            controller.runToCompletion();
+            if (pace != null) {
+                System.out.printf("Ticks por segundo: %.1f (alvo %.1f), atrasados: %d, descartados: %d, maior atraso: %.1f ms%n",
+                        clock.getTicksPerSecond(), clock.getTargetTicksPerSecond(), clock.getLateTicks(),
+                        clock.getSkippedTicks(), clock.getMaxLagNanos() / 1e6);
+            } else {
+                System.out.printf("Ticks por segundo: %.0f%n", clock.getTicksPerSecond());
+            }
+            System.out.print(controller.getStats().formatTable());
+            if (metricsPath != null) {
+                MetricsRegistry metrics = controller.getMetrics();
+                try (java.io.Writer out = new java.io.FileWriter(metricsPath)) {
+                    out.write(metricsPath.endsWith(".csv") ? metrics.toCsv() : metrics.toJson());
+                }
+                System.out.println("Métricas gravadas em " + metricsPath);
+            }
         } else {
             System.out.println("Rodando em modo passo a passo.");
             SimController controller = new SimController(new SystemClock(0), config);
+            controller.setTrace(trace);
             while (!controller.isFinished()) {
                 System.out.print("Pressione Enter para avançar...");
                 new java.util.Scanner(System.in).nextLine();
@@ -188,5 +878,25 @@ public class SimController {
             }
             controller.stop();
         }
+        trace.close();
+    }
+
+    static SystemClock pacedClock(double ticksPerSecond, String catchUp) {
+        SystemClock clock = new SystemClock();
+        clock.setTickIntervalNanos(Math.round(1e9 / ticksPerSecond));
+        switch (catchUp.toUpperCase(Locale.ROOT)) {
+            case "SKIP": clock.setCatchUp(SystemClock.CATCH_UP_SKIP, 0); break;
+            case "LIMITED": clock.setCatchUp(SystemClock.CATCH_UP_LIMITED, Integer.getInteger("maxCatchUp", 100)); break;
+            default: clock.setCatchUp(SystemClock.CATCH_UP_ALL, 0); break;
+        }
+        return clock;
+    }
+
+    static int traceLevel(String name) {
+        switch (name.toUpperCase(Locale.ROOT)) {
+            case "OFF": return TraceSink.OFF;
+            case "SUMMARY": return TraceSink.SUMMARY;
+            default: return TraceSink.FULL;
+        }
     }
 }
\ No newline at end of file
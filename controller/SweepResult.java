@@ -0,0 +1,49 @@
+package controller;
+
+import model.SchedulingStats;
+
+/**
+ * SweepResult - Resultado de uma execução da varredura (um algoritmo com um quantum).
+ */
+public class SweepResult {
+    private final String algorithm;
+    private final int quantum;
+    private final int finalTime;
+    private final int processes;
+    private final int completed;
+    private final int contextSwitches;
+    private final double avgWait;
+    private final double avgTurnaround;
+    // Distribuições de resposta, espera e turnaround da execução
+    private final SchedulingStats stats;
+
+    public SweepResult(String algorithm, int quantum, int finalTime, int processes, int completed,
+                       int contextSwitches, double avgWait, double avgTurnaround, SchedulingStats stats) {
+        this.algorithm = algorithm;
+        this.quantum = quantum;
+        this.finalTime = finalTime;
+        this.processes = processes;
+        this.completed = completed;
+        this.contextSwitches = contextSwitches;
+        this.avgWait = avgWait;
+        this.avgTurnaround = avgTurnaround;
+        this.stats = stats;
+    }
+
+    // Getters
+    public String getAlgorithm() { return algorithm; }
+    public int getQuantum() { return quantum; }
+    public int getFinalTime() { return finalTime; }
+    public int getProcesses() { return processes; }
+    public int getCompleted() { return completed; }
+    public int getContextSwitches() { return contextSwitches; }
+    public double getAvgWait() { return avgWait; }
+    public double getAvgTurnaround() { return avgTurnaround; }
+    public SchedulingStats getStats() { return stats; }
+
+    @Override
+    public String toString() {
+        return String.format("%s q=%d [t=%d, concluídos=%d/%d, trocas=%d, espera=%.2f, turnaround=%.2f]",
+                algorithm, quantum, finalTime, completed, processes, contextSwitches, avgWait, avgTurnaround);
+    }
+}
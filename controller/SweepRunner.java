@@ -0,0 +1,148 @@
+package controller;
+
+import model.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * SweepRunner - Varredura de parâmetros: roda a mesma carga em todas as combinações de
+ * algoritmo e quantum, em paralelo num ForkJoinPool. Cada execução tem seu próprio
+ * SimController (e portanto sua própria cópia da tabela de processos), sem reset().
+ */
+public class SweepRunner {
+    private final ForkJoinPool pool;
+
+    public SweepRunner() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public SweepRunner(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Roda todas as combinações e devolve os resultados na ordem da grade
+     * (algoritmo por algoritmo, quantum por quantum).
+     */
+    public List<SweepResult> run(SimulationConfig config, List<String> algorithms, int[] quanta) {
+        List<RunTask> tasks = new ArrayList<>();
+        for (String algorithm : algorithms) {
+            for (int quantum : quanta) {
+                tasks.add(new RunTask(config, algorithm, quantum));
+            }
+        }
+
+        // Dispara todas as execuções no pool e espera por todas
+        pool.invoke(new RecursiveTask<Void>() {
+            @Override
+            protected Void compute() {
+                invokeAll(tasks);
+                return null;
+            }
+        });
+
+        List<SweepResult> results = new ArrayList<>(tasks.size());
+        for (RunTask task : tasks) {
+            results.add(task.join());
+        }
+        return results;
+    }
+
+    /**
+     * Executa uma única simulação da varredura (modo orientado a eventos, sem log nem SVG).
+     */
+    public static SweepResult runOne(SimulationConfig config) {
+        SimController controller = new SimController(new VirtualClock(), config);
+        controller.setTrace(TraceSink.off());
+        controller.setGanttOutput(null);
+        controller.setRecordGantt(false);
+        try {
+            controller.runEventDriven();
+        } finally {
+            // Já parada no fim normal; numa falha, para e fecha a fonte da execução
+            controller.stop();
+        }
+
+        int n = controller.getArrivedCount();
+        int completed = controller.getCompletedCount();
+        return new SweepResult(
+                controller.getSchedulerName(),
+                config.getQuantum(),
+                controller.getCurrentTime(),
+                n,
+                completed,
+                controller.getContextSwitches(),
+                completed > 0 ? controller.getTotalWait() / (double) completed : 0.0,
+                completed > 0 ? controller.getTotalTurnaround() / (double) completed : 0.0,
+                controller.getStats());
+    }
+
+    /**
+     * Formata os resultados como tabela de texto, com a cauda das distribuições (p99 de
+     * resposta e espera, p50/p99/p999 de turnaround).
+     */
+    public static String formatTable(List<SweepResult> results) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-8s %8s %10s %10s %8s %12s %12s %9s %9s %9s %9s %9s%n",
+                "Alg", "Quantum", "Tempo", "Concl.", "Trocas", "Espera", "Turnaround",
+                "Resp p99", "Esp p99", "Turn p50", "Turn p99", "Turn p999"));
+        for (SweepResult r : results) {
+            SchedulingStats stats = r.getStats();
+            sb.append(String.format(Locale.ROOT, "%-8s %8d %10d %10d %8d %12.2f %12.2f %9d %9d %9d %9d %9d%n",
+                    r.getAlgorithm(), r.getQuantum(), r.getFinalTime(), r.getCompleted(),
+                    r.getContextSwitches(), r.getAvgWait(), r.getAvgTurnaround(),
+                    stats.getResponse().getQuantile(0.99), stats.getWaiting().getQuantile(0.99),
+                    stats.getTurnaround().getQuantile(0.50), stats.getTurnaround().getQuantile(0.99),
+                    stats.getTurnaround().getQuantile(0.999)));
+        }
+        return sb.toString();
+    }
+
+    // Uma execução da grade. A config da execução (e a sua fonte, que pode abrir o arquivo
+    // de novo) só é criada ao rodar e é fechada no fim: só as execuções em andamento têm
+    // arquivos abertos, qualquer que seja o tamanho da grade
+    private static final class RunTask extends RecursiveTask<SweepResult> {
+        private final SimulationConfig config;
+        private final String algorithm;
+        private final int quantum;
+
+        RunTask(SimulationConfig config, String algorithm, int quantum) {
+            this.config = config;
+            this.algorithm = algorithm;
+            this.quantum = quantum;
+        }
+
+        @Override
+        protected SweepResult compute() {
+            return runOne(config.withRun(algorithm, quantum));
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        // Uso: SweepRunner <config.txt> [FIFO,SRTF,PRIOP,RR,MLFQ,CFS] [1,2,4,8]
+        String path = args.length > 0 ? args[0] : "config/test.txt";
+        String algs = args.length > 1 ? args[1] : "FIFO,SRTF,PRIOP,RR,MLFQ,CFS";
+        String qs = args.length > 2 ? args[2] : "1,2,4,8";
+
+        SimulationConfig config = new ConfigParser().parse(path);
+        List<String> algorithms = new ArrayList<>();
+        for (String a : algs.split(",")) {
+            algorithms.add(a.trim());
+        }
+        String[] parts = qs.split(",");
+        int[] quanta = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            quanta[i] = Integer.parseInt(parts[i].trim());
+        }
+
+        long start = System.nanoTime();
+        List<SweepResult> results = new SweepRunner().run(config, algorithms, quanta);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.print(formatTable(results));
+        System.out.println(results.size() + " execuções em " + elapsedMs + " ms");
+    }
+}
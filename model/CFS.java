@@ -0,0 +1,299 @@
+package model;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+public class CFS implements Scheduler {
+    // Completely Fair Scheduler (como o do Linux): cada processo acumula um tempo virtual de
+    // execução (vruntime) que cresce mais devagar quanto maior o seu peso, e executa sempre o
+    // de menor vruntime. O peso vem da prioridade: cada ponto vale um nível de nice, com a
+    // tabela de pesos do Linux (prioridade 0 = nice 0, prioridade 5 = nice -5, ~3x o peso).
+    // Os prontos ficam numa árvore rubro-negra ordenada por vruntime, com o primeiro em cache.
+
+    // Peso do nice 0; o vruntime é guardado em 1/1024 de tick de um processo nice 0
+    private static final int NICE_0_WEIGHT = 1024;
+    private static final int VSCALE = 1024;
+
+    // sched_prio_to_weight do Linux, do nice -20 ao 19
+    private static final int[] WEIGHTS = {
+        /* -20 */ 88761, 71755, 56483, 46273, 36291,
+        /* -15 */ 29154, 23254, 18705, 14949, 11916,
+        /* -10 */ 9548, 7620, 6100, 4904, 3906,
+        /*  -5 */ 3121, 2501, 1991, 1586, 1277,
+        /*   0 */ 1024, 820, 655, 526, 423,
+        /*   5 */ 335, 272, 215, 172, 137,
+        /*  10 */ 110, 87, 70, 56, 45,
+        /*  15 */ 36, 29, 23, 18, 15,
+    };
+
+    // Parâmetros em ticks (sched_latency, sched_min_granularity e sched_wakeup_granularity)
+    private int targetLatency;
+    private int minGranularity;
+    private int wakeupGranularity;
+    private boolean wakeupPreemption = true;
+
+    private ProcessTable table;
+    private final HandleTree ready = new HandleTree(this::compare);
+    private long[] vruntimes = new long[16];
+    private int[] weights = new int[16];
+    private int[] charged = new int[16]; // runTime já convertido em vruntime
+    private long minVruntime;
+    private long readyWeight;
+    // Último processo escolhido (cobrado na próxima escolha, caso tenha saído bloqueado)
+    private int running = ProcessTable.NONE;
+
+    public CFS(int quantum) {
+        // O quantum da configuração é a granularidade mínima; a latência alvo cobre 8 processos
+        int q = Math.max(1, quantum);
+        this.minGranularity = q;
+        this.targetLatency = 8 * q;
+        this.wakeupGranularity = q;
+    }
+
+    private int compare(int a, int b) {
+        return Long.compare(vruntimes[a], vruntimes[b]);
+    }
+
+    // Período em que todos os prontos devem executar uma vez (se couberem com a granularidade mínima)
+    public void setTargetLatency(int targetLatency) { this.targetLatency = Math.max(1, targetLatency); }
+    public int getTargetLatency() { return targetLatency; }
+
+    // Fatia mínima antes de um processo poder perder a CPU por fim de fatia
+    public void setMinGranularity(int minGranularity) { this.minGranularity = Math.max(1, minGranularity); }
+    public int getMinGranularity() { return minGranularity; }
+
+    // Vantagem de vruntime que um processo acordado precisa ter para tomar a CPU
+    public void setWakeupGranularity(int wakeupGranularity) { this.wakeupGranularity = Math.max(0, wakeupGranularity); }
+    public int getWakeupGranularity() { return wakeupGranularity; }
+
+    // Se false, chegadas e fins de E/S só trocam o processo no fim da fatia
+    public void setWakeupPreemption(boolean wakeupPreemption) { this.wakeupPreemption = wakeupPreemption; }
+    public boolean isWakeupPreemption() { return wakeupPreemption; }
+
+    // Peso da prioridade (cada ponto de prioridade = um nível de nice a menos)
+    public static int weightOf(int priority) {
+        int nice = Math.max(-20, Math.min(19, -priority));
+        return WEIGHTS[nice + 20];
+    }
+
+    // vruntime do processo em ticks de nice 0 (inclui o que executou e ainda não foi cobrado)
+    public double getVruntime(int handle) {
+        return currentVruntime(handle) / (double) VSCALE;
+    }
+
+    @Override
+    public Process nextProcess(List<Process> processes, int currentTime) {
+        // Sem estado: escolhe o de menor tempo executado ponderado pelo peso, desempatando
+        // pelo ingresso e pelo id.
+        if (processes == null || processes.isEmpty()) {
+            return null;
+        }
+        Process chosen = null;
+        long best = Long.MAX_VALUE;
+        for (Process p : processes) {
+            if (p == null || p.isCompleted() || p.getStartTime() > currentTime) continue;
+            long v = (long) p.getRunTime() * NICE_0_WEIGHT * VSCALE / weightOf(p.getPriority());
+            if (chosen == null || v < best
+                    || (v == best && (p.getStartTime() < chosen.getStartTime()
+                        || (p.getStartTime() == chosen.getStartTime() && p.getId() != null && chosen.getId() != null
+                            && p.getId().compareTo(chosen.getId()) < 0)))) {
+                chosen = p;
+                best = v;
+            }
+        }
+        return chosen;
+    }
+
+    @Override
+    public void bind(ProcessTable table) {
+        this.table = table;
+        ready.clear();
+        minVruntime = 0;
+        readyWeight = 0;
+        running = ProcessTable.NONE;
+    }
+
+    @Override
+    public void onArrival(int handle) {
+        ensure(handle);
+        weights[handle] = weightOf(table.getPriority(handle));
+        int runTime = table.getRunTime(handle);
+        if (runTime == 0) {
+            // Processo novo começa no menor vruntime da fila
+            vruntimes[handle] = minVruntime;
+        } else {
+            // Voltou de E/S: cobra a última execução e recebe no máximo meia latência de crédito
+            if (handle == running) {
+                charge(handle);
+                running = ProcessTable.NONE;
+            }
+            long credit = (long) targetLatency * VSCALE / 2;
+            vruntimes[handle] = Math.max(vruntimes[handle], minVruntime - credit);
+        }
+        charged[handle] = runTime;
+        enqueue(handle);
+    }
+
+    @Override
+    public void onPreempt(int handle) {
+        ensure(handle);
+        charge(handle);
+        if (handle == running) {
+            running = ProcessTable.NONE;
+        }
+        enqueue(handle);
+    }
+
+    @Override
+    public void onComplete(int handle) {
+        if (handle == running) {
+            running = ProcessTable.NONE;
+        }
+    }
+
+    @Override
+    public int pickNext(int currentTime) {
+        if (running != ProcessTable.NONE) {
+            charge(running);
+            running = ProcessTable.NONE;
+        }
+        int h = ready.poll();
+        if (h != ProcessTable.NONE) {
+            // min_vruntime só avança: o escolhido era o menor da fila
+            minVruntime = Math.max(minVruntime, vruntimes[h]);
+            readyWeight -= weights[h];
+            running = h;
+        }
+        return h;
+    }
+
+    @Override
+    public boolean supportsMigration() {
+        return true;
+    }
+
+    @Override
+    public int migrateOut(int currentTime) {
+        // Tira o de menor vruntime sem marcá-lo como em execução (como um pickNext sem despacho)
+        int h = ready.poll();
+        if (h != ProcessTable.NONE) {
+            readyWeight -= weights[h];
+        }
+        return h;
+    }
+
+    @Override
+    public long migrationState(int handle) {
+        // vruntime relativo ao min_vruntime da origem: cada fila tem a sua escala (como no Linux)
+        return vruntimes[handle] - minVruntime;
+    }
+
+    @Override
+    public void migrateIn(int handle, long state) {
+        // Sem o crédito de quem acorda: o processo estava pronto, só mudou de fila
+        ensure(handle);
+        weights[handle] = weightOf(table.getPriority(handle));
+        vruntimes[handle] = minVruntime + state;
+        charged[handle] = table.getRunTime(handle);
+        enqueue(handle);
+    }
+
+    @Override
+    public int quantumFor(int handle, int defaultQuantum) {
+        // Fatia proporcional ao peso dentro do período (latência alvo, ou granularidade mínima
+        // por processo quando há prontos demais), nunca menor que a granularidade mínima
+        int runnable = ready.size() + 1;
+        long period = runnable > targetLatency / minGranularity ? (long) runnable * minGranularity : targetLatency;
+        long slice = period * weights[handle] / (readyWeight + weights[handle]);
+        return (int) Math.max(minGranularity, Math.min(slice, Integer.MAX_VALUE));
+    }
+
+    @Override
+    public boolean preemptsOnWakeup() {
+        return wakeupPreemption;
+    }
+
+    @Override
+    public boolean shouldPreempt(int runningHandle, int woken) {
+        // Preempta se o acordado está atrás do atual por mais que a granularidade (no peso dele)
+        long granularity = (long) wakeupGranularity * VSCALE * NICE_0_WEIGHT / weights[woken];
+        return wakeupPreemption && currentVruntime(runningHandle) - vruntimes[woken] > granularity;
+    }
+
+    @Override
+    public int readyCount() {
+        return ready.size();
+    }
+
+    @Override
+    public String getName() {
+        return "CFS";
+    }
+
+    @Override
+    public boolean supportsCheckpoint() {
+        return true;
+    }
+
+    @Override
+    public void writeState(StateWriter out) throws IOException {
+        out.writeInt(targetLatency);
+        out.writeInt(minGranularity);
+        out.writeInt(wakeupGranularity);
+        out.writeBoolean(wakeupPreemption);
+        out.writeLong(minVruntime);
+        out.writeLong(readyWeight);
+        out.writeInt(running);
+        out.writeLongs(vruntimes, vruntimes.length);
+        out.writeInts(weights, weights.length);
+        out.writeInts(charged, charged.length);
+        ready.writeState(out);
+    }
+
+    @Override
+    public void readState(StateReader in) throws IOException {
+        targetLatency = in.readInt();
+        minGranularity = in.readInt();
+        wakeupGranularity = in.readInt();
+        wakeupPreemption = in.readBoolean();
+        minVruntime = in.readLong();
+        readyWeight = in.readLong();
+        running = in.readInt();
+        vruntimes = in.readLongs();
+        weights = in.readInts();
+        charged = in.readInts();
+        if (weights.length != vruntimes.length || charged.length != vruntimes.length) {
+            throw new IOException("Estado do CFS inválido no checkpoint.");
+        }
+        // Chaves já restauradas: a árvore é remontada na mesma ordem
+        ready.readState(in);
+    }
+
+    private void enqueue(int handle) {
+        ready.add(handle);
+        readyWeight += weights[handle];
+    }
+
+    // Converte em vruntime o que o processo executou desde a última cobrança
+    private void charge(int handle) {
+        vruntimes[handle] = currentVruntime(handle);
+        charged[handle] = table.getRunTime(handle);
+    }
+
+    private long currentVruntime(int handle) {
+        if (handle >= vruntimes.length) return minVruntime;
+        int delta = table.getRunTime(handle) - charged[handle];
+        if (delta <= 0 || weights[handle] == 0) return vruntimes[handle];
+        return vruntimes[handle] + (long) delta * NICE_0_WEIGHT * VSCALE / weights[handle];
+    }
+
+    private void ensure(int handle) {
+        if (handle >= vruntimes.length) {
+            int capacity = Math.max(handle + 1, vruntimes.length * 2);
+            vruntimes = Arrays.copyOf(vruntimes, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+            charged = Arrays.copyOf(charged, capacity);
+        }
+    }
+}
@@ -17,7 +17,7 @@ public class ConfigParser {
                 throw new IOException("Arquivo de configuração vazio.");
             }
 
-            // Exemplo:  "PRIOP;5"
+            // Exemplo:  "PRIOP;5" ou "MLFQ;2,4,8" (quantum por nível)
             String[] headerParts = line.split(";");
             if (headerParts.length < 2) {
                 throw new IOException("Formato de configuração inválido.");
@@ -25,7 +25,11 @@ public class ConfigParser {
 
             // Faz atribuição dos valores do cabeçalho
             config.setAlgorithmName(headerParts[0].trim());
-            config.setQuantum(Integer.parseInt(headerParts[1].trim()));
+            try {
+                config.setQuantums(SimulationConfig.parseQuantums(headerParts[1]));
+            } catch (IllegalArgumentException e) {
+                throw new IOException(e.getMessage());
+            }
 
             // Pega os processos (A partir da segunda linha)
             while ((line = reader.readLine()) != null) {
@@ -38,19 +42,37 @@ public class ConfigParser {
                     throw new IOException("Configuração de processo inválida: " + line);
                 }
 
-                // Faz atribuição dos valores de cada processo
-                Process p = new Process();
-                p.setId(parts[0].trim());
-                p.setColor(Integer.parseInt(parts[1].trim()));
-                p.setStartTime(Integer.parseInt(parts[2].trim()));
-                p.setDuration(Integer.parseInt(parts[3].trim()));
-                p.setPriority(Integer.parseInt(parts[4].trim()));
+                // Faz atribuição dos valores de cada processo direto na tabela
+                int h = config.getProcessTable().add(
+                        parts[0].trim(),
+                        Integer.parseInt(parts[1].trim()),
+                        Integer.parseInt(parts[2].trim()),
+                        Integer.parseInt(parts[3].trim()),
+                        Integer.parseInt(parts[4].trim()));
 
-                // Eventos por enquanto não são utilizados.
-                config.getProcessList().add(p);
+                // Eventos de E/S (ex.: IO:2-1;DISCO:3-2), se houver
+                try {
+                    config.getProcessTable().setEventList(h, Event.parseList(parts, 5));
+                } catch (IllegalArgumentException e) {
+                    throw new IOException(e.getMessage() + " (processo " + parts[0].trim() + ")");
+                }
             }
         }
 
         return config;
     }
+
+    /**
+     * Modo streaming: lê só o cabeçalho agora e entrega os processos ao controlador
+     * sob demanda, direto do arquivo mapeado em memória (o arquivo deve estar em ordem
+     * de ingresso). A lista de processos da config fica vazia.
+     */
+    public SimulationConfig parseStreaming(String path) throws IOException {
+        ConfigStreamReader reader = new ConfigStreamReader(path);
+        SimulationConfig config = new SimulationConfig();
+        config.setAlgorithmName(reader.getAlgorithmName());
+        config.setQuantums(reader.getQuantums());
+        config.setProcessSource(reader);
+        return config;
+    }
 }
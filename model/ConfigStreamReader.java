@@ -0,0 +1,407 @@
+package model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ConfigStreamReader - Leitura em streaming do arquivo de configuração.
+ * Lê o arquivo por janelas mapeadas em memória e converte os números direto dos bytes,
+ * sem split() nem substrings. Os processos são entregues ao controlador em ordem de
+ * ingresso, à medida que chegam; o arquivo deve estar ordenado por ingresso.
+ */
+public class ConfigStreamReader implements ProcessSource, Closeable {
+    // Tamanho de cada janela mapeada do arquivo
+    private static final int WINDOW = 64 * 1024 * 1024;
+
+    private final String path;
+    private final FileChannel channel;
+    private final long fileSize;
+    private MappedByteBuffer buffer;
+    private long bufferBase; // posição no arquivo do início do buffer
+    private int pos;         // posição atual dentro do buffer
+    private long lineNumber;
+    private int cursor;      // posição do próximo campo numérico na linha
+
+    private String algorithmName;
+    private int[] quantums;
+
+    // Linha já lida à frente (próximo grupo)
+    private boolean hasCarry;
+    private String carryId;
+    private int carryColor, carryStart, carryDuration, carryPriority;
+    private List<Event> carryEvents;
+
+    // Grupo atual: processos com o mesmo startTime, ordenados por id
+    private String[] groupIds = new String[16];
+    private int[] groupColors = new int[16];
+    private int[] groupDurations = new int[16];
+    private int[] groupPriorities = new int[16];
+    @SuppressWarnings("unchecked")
+    private List<Event>[] groupEvents = (List<Event>[]) new List<?>[16];
+    private Integer[] groupOrder = new Integer[16];
+    private int groupStart;
+    private int groupSize;
+    private int groupPos;
+    private boolean started;
+    // Início do grupo atual no arquivo (posição e número da linha antes dele), para checkpoints
+    private long groupOffset;
+    private long groupLineNumber;
+
+    // Campos da última linha lida (e onde ela começa)
+    private long lineOffset, lineNumberBefore;
+    private long carryOffset, carryLineNumber;
+    private String lineId;
+    private int lineColor, lineStart, lineDuration, linePriority;
+    private List<Event> lineEvents;
+
+    public ConfigStreamReader(String path) throws IOException {
+        this.path = path;
+        this.channel = FileChannel.open(Path.of(path), StandardOpenOption.READ);
+        this.fileSize = channel.size();
+        map(0);
+        readHeader();
+    }
+
+    private void map(long base) throws IOException {
+        bufferBase = base;
+        long length = Math.min(WINDOW, fileSize - base);
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, base, length);
+        pos = 0;
+    }
+
+    // Garante que a linha iniciando em pos esteja inteira no buffer; retorna o fim da linha
+    private int lineEnd() throws IOException {
+        int end = scanNewline(pos);
+        if (end < 0 && bufferBase + buffer.limit() < fileSize) {
+            // A linha atravessa a janela: remapeia a partir do início dela
+            map(bufferBase + pos);
+            end = scanNewline(0);
+            if (end < 0 && bufferBase + buffer.limit() < fileSize) {
+                throw new IOException("Linha muito longa na linha " + (lineNumber + 1));
+            }
+        }
+        return end < 0 ? buffer.limit() : end;
+    }
+
+    private int scanNewline(int from) {
+        int limit = buffer.limit();
+        for (int i = from; i < limit; i++) {
+            if (buffer.get(i) == '\n') return i;
+        }
+        return -1;
+    }
+
+    private boolean atEof() {
+        return pos >= buffer.limit() && bufferBase + buffer.limit() >= fileSize;
+    }
+
+    private void readHeader() throws IOException {
+        // Exemplo:  "PRIOP;5" ou "MLFQ;2,4,8" (quantum por nível)
+        if (!skipBlankLines()) {
+            throw new IOException("Arquivo de configuração vazio.");
+        }
+        int end = lineEnd();
+        lineNumber++;
+        int sep = indexOf(pos, end, (byte) ';');
+        if (sep < 0) {
+            throw new IOException("Formato de configuração inválido.");
+        }
+        algorithmName = decode(pos, sep);
+        int next = indexOf(sep + 1, end, (byte) ';');
+        try {
+            quantums = SimulationConfig.parseQuantums(decode(sep + 1, next < 0 ? end : next));
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage());
+        }
+        pos = Math.min(end + 1, buffer.limit());
+    }
+
+    // Pula linhas vazias; retorna false no fim do arquivo
+    private boolean skipBlankLines() throws IOException {
+        while (true) {
+            if (pos >= buffer.limit()) {
+                if (bufferBase + buffer.limit() >= fileSize) return false;
+                map(bufferBase + pos);
+            }
+            int end = lineEnd();
+            boolean blank = true;
+            for (int i = pos; i < end; i++) {
+                byte b = buffer.get(i);
+                if (b != ' ' && b != '\t' && b != '\r') {
+                    blank = false;
+                    break;
+                }
+            }
+            if (!blank) return true;
+            lineNumber++;
+            pos = end + 1;
+            if (atEof()) return false;
+        }
+    }
+
+    // Lê a próxima linha de processo para os campos line*; false no fim do arquivo
+    private boolean readLine() throws IOException {
+        if (!skipBlankLines()) return false;
+        int end = lineEnd();
+        lineOffset = bufferBase + pos;
+        lineNumberBefore = lineNumber;
+        lineNumber++;
+
+        // Exemplo: t01;0;0;4;2;
+        int sep = indexOf(pos, end, (byte) ';');
+        if (sep < 0) {
+            throw new IOException("Configuração de processo inválida na linha " + lineNumber);
+        }
+        lineId = decode(pos, sep);
+        cursor = sep + 1;
+        lineColor = parseInt(end);
+        lineStart = parseInt(end);
+        lineDuration = parseInt(end);
+        linePriority = parseInt(end);
+
+        // Eventos de E/S (raros): só o resto da linha vira String
+        lineEvents = null;
+        if (cursor < end) {
+            String rest = decode(cursor, end);
+            if (!rest.isEmpty()) {
+                try {
+                    lineEvents = Event.parseList(rest.split(";"), 0);
+                } catch (IllegalArgumentException e) {
+                    throw new IOException(e.getMessage() + " na linha " + lineNumber);
+                }
+            }
+        }
+        pos = Math.min(end + 1, buffer.limit());
+        return true;
+    }
+
+    private int indexOf(int from, int to, byte value) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == value) return i;
+        }
+        return -1;
+    }
+
+    // Id sem espaços nas pontas
+    private String decode(int from, int to) {
+        while (from < to && buffer.get(from) <= ' ') from++;
+        while (to > from && buffer.get(to - 1) <= ' ') to--;
+        byte[] bytes = new byte[to - from];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = buffer.get(from + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // Converte o próximo campo numérico direto dos bytes e avança o cursor após o ';'
+    private int parseInt(int end) throws IOException {
+        int i = cursor;
+        while (i < end && buffer.get(i) == ' ') i++;
+        boolean negative = false;
+        if (i < end && buffer.get(i) == '-') {
+            negative = true;
+            i++;
+        }
+        int digits = 0;
+        long value = 0;
+        while (i < end) {
+            byte b = buffer.get(i);
+            if (b < '0' || b > '9') break;
+            value = value * 10 + (b - '0');
+            if (value > Integer.MAX_VALUE) {
+                throw new IOException("Número fora do intervalo na linha " + lineNumber);
+            }
+            digits++;
+            i++;
+        }
+        while (i < end && (buffer.get(i) == ' ' || buffer.get(i) == '\r')) i++;
+        if (digits == 0 || (i < end && buffer.get(i) != ';')) {
+            throw new IOException("Configuração de processo inválida na linha " + lineNumber);
+        }
+        cursor = i + 1;
+        return negative ? (int) -value : (int) value;
+    }
+
+    // Carrega o próximo grupo de processos com o mesmo startTime e ordena por id
+    private void fillGroup() {
+        try {
+            groupSize = 0;
+            groupPos = 0;
+            if (!hasCarry) {
+                if (!readLine()) return;
+                carry();
+            }
+            int previousStart = groupStart;
+            groupStart = carryStart;
+            groupOffset = carryOffset;
+            groupLineNumber = carryLineNumber;
+            if (started && groupStart < previousStart) {
+                throw new IOException("Processos fora de ordem de ingresso na linha " + lineNumber);
+            }
+            started = true;
+            appendCarry();
+            while (readLine()) {
+                carry();
+                if (carryStart != groupStart) {
+                    if (carryStart < groupStart) {
+                        throw new IOException("Processos fora de ordem de ingresso na linha " + lineNumber);
+                    }
+                    return;
+                }
+                appendCarry();
+            }
+            hasCarry = false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (groupSize > 1) {
+                sortGroup();
+            }
+        }
+    }
+
+    private void carry() {
+        hasCarry = true;
+        carryId = lineId;
+        carryColor = lineColor;
+        carryStart = lineStart;
+        carryDuration = lineDuration;
+        carryPriority = linePriority;
+        carryEvents = lineEvents;
+        carryOffset = lineOffset;
+        carryLineNumber = lineNumberBefore;
+    }
+
+    private void appendCarry() {
+        if (groupSize == groupIds.length) {
+            int capacity = groupSize * 2;
+            groupIds = Arrays.copyOf(groupIds, capacity);
+            groupColors = Arrays.copyOf(groupColors, capacity);
+            groupDurations = Arrays.copyOf(groupDurations, capacity);
+            groupPriorities = Arrays.copyOf(groupPriorities, capacity);
+            groupEvents = Arrays.copyOf(groupEvents, capacity);
+            groupOrder = Arrays.copyOf(groupOrder, capacity);
+        }
+        groupIds[groupSize] = carryId;
+        groupColors[groupSize] = carryColor;
+        groupDurations[groupSize] = carryDuration;
+        groupPriorities[groupSize] = carryPriority;
+        groupEvents[groupSize] = carryEvents;
+        groupOrder[groupSize] = groupSize;
+        groupSize++;
+        hasCarry = false;
+    }
+
+    private void sortGroup() {
+        // Ordenação estável por id; empates mantêm a ordem do arquivo
+        Arrays.sort(groupOrder, 0, groupSize, (a, b) -> {
+            String id1 = groupIds[a];
+            String id2 = groupIds[b];
+            if (id1 == null) return id2 == null ? 0 : 1;
+            if (id2 == null) return -1;
+            return id1.compareTo(id2);
+        });
+    }
+
+    public String getAlgorithmName() { return algorithmName; }
+
+    public int getQuantum() { return quantums[0]; }
+
+    public int[] getQuantums() { return quantums.clone(); }
+
+    @Override
+    public boolean hasNext() {
+        if (groupPos >= groupSize) {
+            fillGroup();
+        }
+        return groupPos < groupSize;
+    }
+
+    @Override
+    public int peekStartTime() {
+        return groupStart;
+    }
+
+    @Override
+    public int next(ProcessTable table) {
+        if (!hasNext()) {
+            return ProcessTable.NONE;
+        }
+        int i = groupOrder[groupPos++];
+        String id = groupIds[i];
+        groupIds[i] = null;
+        int h = table.add(id, groupColors[i], groupStart, groupDurations[i], groupPriorities[i]);
+        if (groupEvents[i] != null) {
+            table.setEventList(h, groupEvents[i]);
+            groupEvents[i] = null;
+        }
+        return h;
+    }
+
+    @Override
+    public boolean supportsCheckpoint() {
+        return true;
+    }
+
+    /**
+     * Checkpoint: início do grupo atual no arquivo e quantos processos dele já saíram.
+     * Restaurar remapeia o arquivo nesse ponto e relê só esse grupo.
+     */
+    @Override
+    public void writeState(StateWriter out) throws IOException {
+        out.writeLong(fileSize);
+        out.writeBoolean(started);
+        if (started) {
+            // Tudo entregue: o grupo seguinte começa no fim do arquivo
+            boolean exhausted = groupPos >= groupSize && !hasCarry && atEof();
+            out.writeLong(exhausted ? fileSize : groupOffset);
+            out.writeLong(exhausted ? lineNumber : groupLineNumber);
+            out.writeInt(exhausted ? 0 : groupPos);
+        }
+    }
+
+    @Override
+    public void readState(StateReader in) throws IOException {
+        if (in.readLong() != fileSize) {
+            throw new IOException("Checkpoint de outro arquivo de configuração: " + path);
+        }
+        if (!in.readBoolean()) {
+            return;
+        }
+        long offset = in.readLong();
+        long line = in.readLong();
+        int consumed = in.readInt();
+        if (offset < 0 || offset > fileSize) {
+            throw new IOException("Posição inválida no checkpoint: " + offset);
+        }
+        map(offset);
+        lineNumber = line;
+        hasCarry = false;
+        started = false;
+        fillGroup();
+        groupPos = Math.min(consumed, groupSize);
+    }
+
+    @Override
+    public ProcessSource restart() {
+        // Reabre o arquivo: cada leitor tem seu próprio canal e posição
+        try {
+            return new ConfigStreamReader(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -1,5 +1,78 @@
 package model;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Event - Pedido de E/S de um processo, no formato DISPOSITIVO:offset-duracao (ex.: IO:2-1).
+ * Quando o processo completa offset ticks de CPU ele sai da CPU e espera na fila do
+ * dispositivo, que o atende por duracao ticks; depois volta para a fila de prontos.
+ */
 public class Event {
-    // Será implementado futuramente
+    private final String device;
+    private final int offset;
+    private final int duration;
+
+    public Event(String device, int offset, int duration) {
+        if (device == null || device.isEmpty()) {
+            throw new IllegalArgumentException("Evento sem dispositivo.");
+        }
+        if (offset < 0 || duration < 1) {
+            throw new IllegalArgumentException("Evento inválido: " + device + ":" + offset + "-" + duration);
+        }
+        this.device = device;
+        this.offset = offset;
+        this.duration = duration;
+    }
+
+    /**
+     * Lê um evento no formato DISPOSITIVO:offset-duracao.
+     */
+    public static Event parse(String text) {
+        String s = text.trim();
+        int colon = s.indexOf(':');
+        int dash = s.indexOf('-', colon + 1);
+        if (colon <= 0 || dash < 0) {
+            throw new IllegalArgumentException("Evento inválido: " + text);
+        }
+        try {
+            return new Event(s.substring(0, colon).trim(),
+                    Integer.parseInt(s.substring(colon + 1, dash).trim()),
+                    Integer.parseInt(s.substring(dash + 1).trim()));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Evento inválido: " + text);
+        }
+    }
+
+    /**
+     * Lê a lista de eventos de uma linha de processo (campos a partir de from), ordenada
+     * por offset. Campos vazios são ignorados; retorna null se não houver eventos.
+     */
+    public static List<Event> parseList(String[] parts, int from) {
+        List<Event> events = null;
+        for (int i = from; i < parts.length; i++) {
+            if (parts[i].trim().isEmpty()) continue;
+            if (events == null) events = new ArrayList<>(parts.length - i);
+            events.add(parse(parts[i]));
+        }
+        if (events != null && events.size() > 1) {
+            // Ordenação estável: pedidos com o mesmo offset mantêm a ordem do arquivo
+            events.sort(Comparator.comparingInt(Event::getOffset));
+        }
+        return events;
+    }
+
+    public String getDevice() { return device; }
+
+    // Ticks de CPU executados antes do pedido
+    public int getOffset() { return offset; }
+
+    // Ticks de atendimento no dispositivo
+    public int getDuration() { return duration; }
+
+    @Override
+    public String toString() {
+        return device + ":" + offset + "-" + duration;
+    }
 }
@@ -1,8 +1,12 @@
 package model;
 
+import java.io.IOException;
 import java.util.List;
 
 public class FIFO implements Scheduler {
+    // Fila de prontos em ordem de chegada. As chegadas são entregues pelo controlador
+    // já ordenadas por (startTime, id), então a ordem da fila é a mesma do nextProcess.
+    private final HandleDeque readyQueue = new HandleDeque();
 
     @Override
     public Process nextProcess(List<Process> processes, int currentTime) {
@@ -42,6 +46,59 @@ public class FIFO implements Scheduler {
         return chosen;
     }
 
+    @Override
+    public void bind(ProcessTable table) {
+        // A ordem da fila não depende dos atributos do processo
+        readyQueue.clear();
+    }
+
+    @Override
+    public void onArrival(int handle) {
+        readyQueue.addLast(handle);
+    }
+
+    @Override
+    public void onPreempt(int handle) {
+        // O processo interrompido é sempre o mais antigo entre os prontos, volta para a frente.
+        readyQueue.addFirst(handle);
+    }
+
+    @Override
+    public void onComplete(int handle) {
+        // Nada a fazer: o processo em execução não está na fila.
+    }
+
+    @Override
+    public int pickNext(int currentTime) {
+        return readyQueue.pollFirst();
+    }
+
+    @Override
+    public boolean supportsMigration() {
+        // Sem estado além da ordem de chegada: o migrado entra no fim da fila de destino
+        return true;
+    }
+
+    @Override
+    public int readyCount() {
+        return readyQueue.size();
+    }
+
+    @Override
+    public boolean supportsCheckpoint() {
+        return true;
+    }
+
+    @Override
+    public void writeState(StateWriter out) throws IOException {
+        readyQueue.writeState(out);
+    }
+
+    @Override
+    public void readState(StateReader in) throws IOException {
+        readyQueue.readState(in);
+    }
+
     @Override
     public String getName() {
         return "FIFO";
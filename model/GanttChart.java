@@ -2,52 +2,170 @@ package model;
 
 import java.io.*;
 import java.util.*;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * GanttChart - Gera gráficos de Gantt em SVG para visualização do escalonamento de processos
  */
 public class GanttChart {
-    private List<GanttEvent> events;
-    private Map<String, String> processColors;
-    
+    // Intervalos em arrays paralelos: raia (processo ou CPU), início, fim, rótulo e cor
+    private int[] eventLanes;
+    private int[] eventStarts;
+    private int[] eventEnds;
+    private String[] eventLabels; // null = o próprio id da raia
+    private int[] eventColors;    // -1 = cor da raia
+    private int[] eventHandles;   // handle do processo (-1 = sem handle, FINISHED = já terminou)
+    private int eventCount;
+    private int maxTime;
+    // Fins dos intervalos em ordem crescente (uma CPU): permite busca binária por tempo
+    private boolean ordered = true;
+
+    // Uma raia por processo, na ordem em que aparece
+    private final Map<String, Integer> laneIndex;
+    private final List<String> laneIds;
+
+    private TraceSink trace = TraceSink.off();
+
     public GanttChart() {
-        this.events = new ArrayList<>();
-        this.processColors = new HashMap<>();
+        this.eventLanes = new int[64];
+        this.eventStarts = new int[64];
+        this.eventEnds = new int[64];
+        this.eventLabels = new String[64];
+        this.eventColors = new int[64];
+        this.eventHandles = new int[64];
+        this.laneIndex = new HashMap<>();
+        this.laneIds = new ArrayList<>();
     }
-    
+
+    // Handle de um intervalo cujo processo já terminou: nada mais se une a ele
+    private static final int FINISHED = -2;
+
     /**
-     * Registra a execução de um processo
+     * Registra a execução de um processo. Intervalos consecutivos do mesmo processo
+     * (fim de um = início do outro) são unidos em um só.
      */
     public void recordExecution(String processId, int startTime, int endTime) {
-        if (endTime > startTime && processId != null && !processId.equals("IDLE")) {
-            GanttEvent event = new GanttEvent(processId, startTime, endTime, "running");
-            events.add(event);
-            System.out.println("Gantt Event recorded: " + event);
-        } else {
-            System.out.println("Gantt Event skipped - invalid: " + processId + " from " + startTime + " to " + endTime);
+        recordExecution(processId, -1, null, -1, startTime, endTime);
+    }
+
+    /**
+     * Como recordExecution(processId, ...), mas une intervalos pelo handle do processo:
+     * dois processos diferentes com o mesmo id continuam em barras separadas.
+     */
+    public void recordExecution(int handle, String processId, int startTime, int endTime) {
+        recordExecution(processId, handle, null, -1, startTime, endTime);
+    }
+
+    /**
+     * Registra um intervalo na raia lane (ex.: "CPU0") com o rótulo e a cor do processo
+     * que executou. Só une intervalos consecutivos do mesmo processo na mesma raia.
+     */
+    public void recordExecution(String lane, String label, int color, int startTime, int endTime) {
+        recordExecution(lane, -1, label, color, startTime, endTime);
+    }
+
+    /**
+     * Intervalo na raia lane do processo handle (-1 se o chamador não tem handle: une
+     * pelo rótulo e pela cor, como antes).
+     */
+    public void recordExecution(String lane, int handle, String label, int color, int startTime, int endTime) {
+        if (endTime > startTime && lane != null && !lane.equals("IDLE")) {
+            int laneId = laneOf(lane);
+            if (label != null && label.equals(lane)) label = null;
+
+            int last = eventCount - 1;
+            if (last >= 0 && eventLanes[last] == laneId && eventEnds[last] == startTime
+                    && eventHandles[last] == handle
+                    && Objects.equals(eventLabels[last], label) && eventColors[last] == color) {
+                eventEnds[last] = endTime;
+            } else {
+                if (eventCount == eventLanes.length) {
+                    grow(eventCount * 2);
+                }
+                if (eventCount > 0 && endTime < eventEnds[eventCount - 1]) ordered = false;
+                eventLanes[eventCount] = laneId;
+                eventStarts[eventCount] = startTime;
+                eventEnds[eventCount] = endTime;
+                eventLabels[eventCount] = label;
+                eventColors[eventCount] = color;
+                eventHandles[eventCount] = handle;
+                eventCount++;
+            }
+            maxTime = Math.max(maxTime, endTime);
+            if (trace.isEnabled(TraceSink.FULL)) {
+                trace.record(TraceSink.GANTT, endTime, label != null ? label : lane, startTime, endTime, 0, 0);
+            }
+        } else if (trace.isEnabled(TraceSink.FULL)) {
+            trace.record(TraceSink.GANTT_SKIP, endTime, label != null ? label : lane, startTime, endTime, 0, 0);
+        }
+    }
+
+    /**
+     * O processo handle terminou: o handle pode voltar para outro processo, então o
+     * último intervalo dele não se une a mais nada.
+     */
+    public void finishProcess(int handle) {
+        int last = eventCount - 1;
+        if (handle >= 0 && last >= 0 && eventHandles[last] == handle) {
+            eventHandles[last] = FINISHED;
+        }
+    }
+
+    private void grow(int capacity) {
+        eventLanes = Arrays.copyOf(eventLanes, capacity);
+        eventStarts = Arrays.copyOf(eventStarts, capacity);
+        eventEnds = Arrays.copyOf(eventEnds, capacity);
+        eventLabels = Arrays.copyOf(eventLabels, capacity);
+        eventColors = Arrays.copyOf(eventColors, capacity);
+        eventHandles = Arrays.copyOf(eventHandles, capacity);
+    }
+
+    private int laneOf(String lane) {
+        Integer index = laneIndex.get(lane);
+        if (index == null) {
+            index = laneIds.size();
+            laneIndex.put(lane, index);
+            laneIds.add(lane);
+        }
+        return index;
+    }
+
+    /**
+     * Copia os intervalos de outro gráfico para este (ex.: um gráfico por CPU).
+     */
+    public void append(GanttChart other) {
+        for (int i = 0; i < other.eventCount; i++) {
+            recordExecution(other.laneIds.get(other.eventLanes[i]), other.eventHandles[i], other.eventLabels[i],
+                    other.eventColors[i], other.eventStarts[i], other.eventEnds[i]);
         }
     }
-    
+
     /**
-     * Gera o gráfico SVG
+     * Gera o gráfico SVG. Se o nome terminar em .svgz, grava comprimido com gzip.
      */
     public void generateChart(String filename) {
-        System.out.println("Generating Gantt Chart with " + events.size() + " events");
-        
-        if (events.isEmpty()) {
+        if (eventCount == 0) {
             System.out.println("AVISO: Nenhum evento para gerar Gantt Chart");
-            // Vamos criar alguns eventos de exemplo para debug
+            // Vamos criar alguns eventos de debug
             createDebugEvents();
         }
-        
-        try (PrintWriter out = new PrintWriter(new FileWriter(filename))) {
-            generateSVG(out);
-            System.out.println("Gantt Chart gerado: " + filename);
+
+        try (Writer out = openWriter(filename)) {
+            new GanttSvgWriter(this).write(out);
+            if (trace.isEnabled(TraceSink.SUMMARY)) trace.record(TraceSink.GANTT_FILE, maxTime, filename, eventCount, 0, 0, 0);
         } catch (IOException e) {
             System.err.println("Erro ao gerar gráfico: " + e.getMessage());
         }
     }
-    
+
+    private static Writer openWriter(String filename) throws IOException {
+        OutputStream os = new FileOutputStream(filename);
+        if (filename.endsWith(".svgz")) {
+            os = new GZIPOutputStream(os, 1 << 16);
+        }
+        return new BufferedWriter(new OutputStreamWriter(os, "UTF-8"), 1 << 16);
+    }
+
     /**
      * Cria eventos de debug para testar o gráfico
      */
@@ -58,136 +176,126 @@ public class GanttChart {
         recordExecution("P1", 6, 8);
         recordExecution("P3", 8, 10);
     }
-    
-    private void generateSVG(PrintWriter out) {
-        // Encontra o tempo máximo
-        int maxTime = events.stream()
-                .mapToInt(e -> (int) e.endTime)
-                .max()
-                .orElse(10);
-        
-        // Coleta processos únicos
-        Set<String> processes = new TreeSet<>();
-        for (GanttEvent event : events) {
-            processes.add(event.processId);
-        }
-        
-        System.out.println("Processos no Gantt: " + processes);
-        System.out.println("Tempo máximo: " + maxTime);
-        
-        // Configurações do gráfico
-        int width = 1000;
-        int height = 400;
-        int margin = 80;
-        int chartWidth = width - 2 * margin;
-        int rowHeight = 30;
-        int rowSpacing = 10;
-        
-        // Cabeçalho SVG
-        out.println("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
-        out.printf("<svg width=\"%d\" height=\"%d\" xmlns=\"http://www.w3.org/2000/svg\">\n", width, height);
-        
-        // Fundo
-        out.println("<rect width=\"100%\" height=\"100%\" fill=\"white\"/>");
-        
-        // Título
-        out.printf("<text x=\"%d\" y=\"%d\" text-anchor=\"middle\" font-size=\"18\" font-weight=\"bold\">Gráfico de Gantt - Escalonamento</text>\n", 
-                  width/2, 30);
-        
-        // Mapeia processos para linhas
-        Map<String, Integer> processRows = new HashMap<>();
-        int row = 0;
-        for (String process : processes) {
-            processRows.put(process, row);
-            // Label do processo
-            int y = margin + row * (rowHeight + rowSpacing) + rowHeight / 2;
-            out.printf("<text x=\"%d\" y=\"%d\" text-anchor=\"end\" font-size=\"12\">%s</text>\n", 
-                      margin - 10, y + 4, process);
-            row++;
-        }
-        
-        // Grade de tempo
-        for (int t = 0; t <= maxTime; t++) {
-            int x = margin + (t * chartWidth) / Math.max(1, maxTime);
-            out.printf("<line x1=\"%d\" y1=\"%d\" x2=\"%d\" y2=\"%d\" stroke=\"#ccc\" stroke-width=\"1\"/>\n", 
-                      x, margin, x, margin + processes.size() * (rowHeight + rowSpacing));
-            out.printf("<text x=\"%d\" y=\"%d\" text-anchor=\"middle\" font-size=\"10\">%d</text>\n", 
-                      x, margin - 10, t);
-        }
-        
-        // Eixos
-        out.printf("<line x1=\"%d\" y1=\"%d\" x2=\"%d\" y2=\"%d\" stroke=\"black\" stroke-width=\"2\"/>\n", 
-                  margin, margin, margin + chartWidth, margin);
-        out.printf("<line x1=\"%d\" y1=\"%d\" x2=\"%d\" y2=\"%d\" stroke=\"black\" stroke-width=\"2\"/>\n", 
-                  margin, margin, margin, margin + processes.size() * (rowHeight + rowSpacing));
-        
-        // Barras do Gantt - versão simplificada sem lambda problemático
-        String[] colors = {"#4ECDC4", "#FF6B6B", "#45B7D1", "#96CEB4", "#FFEAA7", "#DDA0DD"};
-        int colorCounter = 0;
-
-        for (GanttEvent event : events) {
-            // Atribui cores de forma simples
-            if (!processColors.containsKey(event.processId)) {
-                processColors.put(event.processId, colors[colorCounter % colors.length]);
-                colorCounter++;
-            }
-            String color = processColors.get(event.processId);
-            
-            int startX = margin + (int)((event.startTime * chartWidth) / Math.max(1, maxTime));
-            int endX = margin + (int)((event.endTime * chartWidth) / Math.max(1, maxTime));
-            int barWidth = Math.max(2, endX - startX);
-            
-            int y = margin + processRows.get(event.processId) * (rowHeight + rowSpacing);
-            
-            // Barra
-            out.printf("<rect x=\"%d\" y=\"%d\" width=\"%d\" height=\"%d\" fill=\"%s\" stroke=\"black\" stroke-width=\"1\"/>\n",
-                      startX, y, barWidth, rowHeight, color);
-            
-            // Label de duração (se couber)
-            if (barWidth > 25) {
-                out.printf("<text x=\"%d\" y=\"%d\" text-anchor=\"middle\" font-size=\"10\" fill=\"white\">%.1f</text>\n",
-                          startX + barWidth/2, y + rowHeight/2 + 3, event.endTime - event.startTime);
-            }
-            
-            // Tooltip
-            out.printf("<title>%s: %.1f-%.1f (duraçao: %.1f)</title>\n",
-                      event.processId, event.startTime, event.endTime, event.endTime - event.startTime);
-        }
-        
-        // Rodapé
-        out.printf("<text x=\"%d\" y=\"%d\" text-anchor=\"middle\" font-size=\"12\" fill=\"#666\">Tempo total: %d | Processos: %d | Eventos: %d</text>\n",
-                  width/2, height - 20, maxTime, processes.size(), events.size());
-        
-        out.println("</svg>");
-    }
-    
+
+    public void setTrace(TraceSink trace) {
+        // Destino do rastro de cada evento registrado (TraceSink.off() para nenhum)
+        this.trace = trace;
+    }
+
     public void clear() {
-        events.clear();
-        processColors.clear();
+        Arrays.fill(eventLabels, 0, eventCount, null);
+        eventCount = 0;
+        maxTime = 0;
+        ordered = true;
+        laneIndex.clear();
+        laneIds.clear();
     }
-    
+
+    /**
+     * Checkpoint: raias e intervalos já registrados (início e duração relativos ao fim do
+     * intervalo anterior, que costumam caber em um byte).
+     */
+    public void writeState(StateWriter out) throws IOException {
+        out.writeInt(laneIds.size());
+        for (String lane : laneIds) {
+            out.writeId(lane);
+        }
+        out.writeInt(eventCount);
+        int previousEnd = 0;
+        for (int i = 0; i < eventCount; i++) {
+            out.writeInt(eventLanes[i]);
+            out.writeInt(eventStarts[i] - previousEnd);
+            out.writeInt(eventEnds[i] - eventStarts[i]);
+            out.writeString(eventLabels[i]);
+            out.writeInt(eventColors[i]);
+            out.writeInt(eventHandles[i]);
+            previousEnd = eventEnds[i];
+        }
+        out.writeInt(maxTime);
+    }
+
+    public void readState(StateReader in) throws IOException {
+        clear();
+        for (int n = in.readInt(); n > 0; n--) {
+            laneOf(in.readId());
+        }
+        int count = in.readInt();
+        if (count > eventLanes.length) {
+            grow(count);
+        }
+        int previousEnd = 0;
+        for (int i = 0; i < count; i++) {
+            eventLanes[i] = in.readInt();
+            eventStarts[i] = previousEnd + in.readInt();
+            eventEnds[i] = eventStarts[i] + in.readInt();
+            eventLabels[i] = in.readString();
+            eventColors[i] = in.readInt();
+            // Até a versão 3 o checkpoint não tinha os handles: une pelo rótulo
+            eventHandles[i] = in.getVersion() >= 4 ? in.readInt() : -1;
+            if (eventEnds[i] < previousEnd) ordered = false;
+            previousEnd = eventEnds[i];
+        }
+        eventCount = count;
+        maxTime = in.readInt();
+    }
+
+    // Acesso direto aos intervalos (sem criar objetos)
+    public int getEventCount() { return eventCount; }
+    public int getEventLane(int i) { return eventLanes[i]; }
+    public int getEventStart(int i) { return eventStarts[i]; }
+    public int getEventEnd(int i) { return eventEnds[i]; }
+    public String getEventLabel(int i) { return eventLabels[i] != null ? eventLabels[i] : laneIds.get(eventLanes[i]); }
+    public int getEventColor(int i) { return eventColors[i] >= 0 ? eventColors[i] : eventLanes[i]; }
+    public int getMaxTime() { return maxTime; }
+    public int getLaneCount() { return laneIds.size(); }
+    public String getLaneId(int lane) { return laneIds.get(lane); }
+
+    // Raia do id, ou -1 se ainda não tem intervalos
+    public int getLaneIndex(String lane) {
+        Integer index = laneIndex.get(lane);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Primeiro intervalo que termina depois de time. Com os intervalos em ordem de término
+     * (gráfico de uma CPU) é uma busca binária; senão, 0 (o chamador percorre todos).
+     */
+    public int firstEventEndingAfter(int time) {
+        if (!ordered) return 0;
+        int lo = 0, hi = eventCount;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (eventEnds[mid] <= time) lo = mid + 1; else hi = mid;
+        }
+        return lo;
+    }
+
     public List<GanttEvent> getEvents() {
-        return new ArrayList<>(events);
+        List<GanttEvent> list = new ArrayList<>(eventCount);
+        for (int i = 0; i < eventCount; i++) {
+            list.add(new GanttEvent(getEventLabel(i), eventStarts[i], eventEnds[i], "running"));
+        }
+        return list;
     }
-    
+
     // Classe interna para eventos
     public static class GanttEvent {
         public String processId;
         public double startTime;
         public double endTime;
         public String state;
-        
+
         public GanttEvent(String processId, double startTime, double endTime, String state) {
             this.processId = processId;
             this.startTime = startTime;
             this.endTime = endTime;
             this.state = state;
         }
-        
+
         @Override
         public String toString() {
-            return String.format("%s: %.1f-%.1f (dur: %.1f)", 
+            return String.format("%s: %.1f-%.1f (dur: %.1f)",
                                processId, startTime, endTime, endTime - startTime);
         }
     }
-}
\ No newline at end of file
+}
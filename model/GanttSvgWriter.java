@@ -0,0 +1,268 @@
+package model;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * GanttSvgWriter - Escreve o SVG do GanttChart com tamanho limitado pelas dimensões
+ * do gráfico em pixels, e não pelo intervalo de tempo simulado:
+ * - a grade de tempo usa no máximo MAX_AXIS_TICKS marcas com passo 1, 2 ou 5 x 10^k;
+ * - em cada linha, trechos contínuos de pixels cobertos viram uma barra só;
+ * - fatias menores que um pixel são somadas por coluna e viram barras de densidade;
+ * - com mais processos que MAX_ROWS, processos vizinhos dividem a mesma linha;
+ * - cada coluna usa a cor do intervalo que mais a cobre (ex.: o processo numa raia de CPU).
+ * A saída é montada à mão em um buffer de caracteres, sem printf por elemento.
+ */
+public class GanttSvgWriter {
+    // Configurações do gráfico
+    private static final int WIDTH = 1000;
+    private static final int MARGIN = 80;
+    private static final int CHART_WIDTH = WIDTH - 2 * MARGIN;
+    private static final int ROW_HEIGHT = 30;
+    private static final int ROW_SPACING = 10;
+    private static final int MAX_ROWS = 64;
+    private static final int MAX_AXIS_TICKS = 20;
+
+    // Níveis de opacidade das barras de densidade
+    private static final int DENSITY_LEVELS = 10;
+
+    private static final String[] COLORS = {"#4ECDC4", "#FF6B6B", "#45B7D1", "#96CEB4", "#FFEAA7", "#DDA0DD"};
+
+    private final GanttChart chart;
+    private Writer out;
+    private final StringBuilder sb = new StringBuilder(256);
+
+    // Cor (#RRGGBB) usada para o índice de cor de um processo, a mesma em todas as vistas
+    public static String colorOf(int color) {
+        return COLORS[Math.floorMod(color, COLORS.length)];
+    }
+
+    public GanttSvgWriter(GanttChart chart) {
+        this.chart = chart;
+    }
+
+    public void write(Writer out) throws IOException {
+        this.out = out;
+        int lanes = chart.getLaneCount();
+        int rows = Math.min(lanes, MAX_ROWS);
+        int maxTime = chart.getMaxTime() > 0 ? chart.getMaxTime() : 10;
+        int height = MARGIN + Math.max(1, rows) * (ROW_HEIGHT + ROW_SPACING) + 60;
+        int chartBottom = MARGIN + rows * (ROW_HEIGHT + ROW_SPACING);
+
+        // Cabeçalho SVG
+        line("<?xml version=\"1.0\" encoding=\"UTF-8\"?>");
+        sb.append("<svg width=\"").append(WIDTH).append("\" height=\"").append(height)
+          .append("\" xmlns=\"http://www.w3.org/2000/svg\">");
+        flushLine();
+
+        // Fundo
+        line("<rect width=\"100%\" height=\"100%\" fill=\"white\"/>");
+
+        // Título
+        sb.append("<text x=\"").append(WIDTH / 2)
+          .append("\" y=\"30\" text-anchor=\"middle\" font-size=\"18\" font-weight=\"bold\">Gráfico de Gantt - Escalonamento</text>");
+        flushLine();
+
+        // Labels das linhas (um processo, ou o primeiro e o último de um grupo de processos)
+        for (int row = 0; row < rows; row++) {
+            int first = firstLane(row, lanes, rows);
+            int last = firstLane(row + 1, lanes, rows) - 1;
+            int y = MARGIN + row * (ROW_HEIGHT + ROW_SPACING) + ROW_HEIGHT / 2;
+            sb.append("<text x=\"").append(MARGIN - 10).append("\" y=\"").append(y + 4)
+              .append("\" text-anchor=\"end\" font-size=\"12\">");
+            escape(chart.getLaneId(first));
+            if (last > first) {
+                sb.append("…");
+                escape(chart.getLaneId(last));
+            }
+            sb.append("</text>");
+            flushLine();
+        }
+
+        // Grade de tempo com passo "redondo"
+        int step = axisStep(maxTime);
+        for (int t = 0; t <= maxTime; t += step) {
+            int x = MARGIN + (int) ((long) t * CHART_WIDTH / maxTime);
+            sb.append("<line x1=\"").append(x).append("\" y1=\"").append(MARGIN)
+              .append("\" x2=\"").append(x).append("\" y2=\"").append(chartBottom)
+              .append("\" stroke=\"#ccc\" stroke-width=\"1\"/>");
+            flushLine();
+            sb.append("<text x=\"").append(x).append("\" y=\"").append(MARGIN - 10)
+              .append("\" text-anchor=\"middle\" font-size=\"10\">").append(t).append("</text>");
+            flushLine();
+        }
+
+        // Eixos
+        sb.append("<line x1=\"").append(MARGIN).append("\" y1=\"").append(MARGIN)
+          .append("\" x2=\"").append(MARGIN + CHART_WIDTH).append("\" y2=\"").append(MARGIN)
+          .append("\" stroke=\"black\" stroke-width=\"2\"/>");
+        flushLine();
+        sb.append("<line x1=\"").append(MARGIN).append("\" y1=\"").append(MARGIN)
+          .append("\" x2=\"").append(MARGIN).append("\" y2=\"").append(chartBottom)
+          .append("\" stroke=\"black\" stroke-width=\"2\"/>");
+        flushLine();
+
+        writeBars(lanes, rows, maxTime);
+
+        // Rodapé
+        sb.append("<text x=\"").append(WIDTH / 2).append("\" y=\"").append(height - 20)
+          .append("\" text-anchor=\"middle\" font-size=\"12\" fill=\"#666\">Tempo total: ").append(maxTime)
+          .append(" | Processos: ").append(lanes).append(" | Eventos: ").append(chart.getEventCount())
+          .append("</text>");
+        flushLine();
+
+        line("</svg>");
+        out.flush();
+    }
+
+    // Barras de cada linha, a partir da cobertura de cada coluna de pixels
+    private void writeBars(int lanes, int rows, int maxTime) throws IOException {
+        int events = chart.getEventCount();
+        if (rows == 0 || events == 0) return;
+
+        // Agrupa os eventos por linha (counting sort), mantendo a ordem no tempo
+        int[] rowStart = new int[rows + 1];
+        for (int i = 0; i < events; i++) {
+            rowStart[rowOf(chart.getEventLane(i), lanes, rows) + 1]++;
+        }
+        for (int r = 0; r < rows; r++) {
+            rowStart[r + 1] += rowStart[r];
+        }
+        int[] byRow = new int[events];
+        int[] fill = rowStart.clone();
+        for (int i = 0; i < events; i++) {
+            byRow[fill[rowOf(chart.getEventLane(i), lanes, rows)]++] = i;
+        }
+
+        // Cobertura (0..1) de cada coluna de pixels da linha atual, e a cor que mais a cobre
+        double[] coverage = new double[CHART_WIDTH + 1];
+        double[] best = new double[CHART_WIDTH + 1];
+        int[] colors = new int[CHART_WIDTH + 1];
+        double scale = CHART_WIDTH / (double) maxTime;
+
+        for (int row = 0; row < rows; row++) {
+            Arrays.fill(coverage, 0.0);
+            Arrays.fill(best, 0.0);
+            for (int k = rowStart[row]; k < rowStart[row + 1]; k++) {
+                int i = byRow[k];
+                addCoverage(coverage, best, colors, chart.getEventStart(i) * scale, chart.getEventEnd(i) * scale,
+                        chart.getEventColor(i));
+            }
+
+            int y = MARGIN + row * (ROW_HEIGHT + ROW_SPACING);
+            String label = chart.getLaneId(firstLane(row, lanes, rows));
+
+            // Percorre as colunas unindo trechos com o mesmo nível de cobertura e a mesma cor
+            int x = 0;
+            while (x < CHART_WIDTH) {
+                int level = level(coverage[x]);
+                int color = colors[x];
+                int end = x + 1;
+                while (end < CHART_WIDTH && level(coverage[end]) == level && (level == 0 || colors[end] == color)) end++;
+                if (level > 0) {
+                    writeBar(x, end, y, level, COLORS[Math.floorMod(color, COLORS.length)], label, scale);
+                }
+                x = end;
+            }
+        }
+    }
+
+    private void writeBar(int x0, int x1, int y, int level, String color, String label, double scale)
+            throws IOException {
+        int width = x1 - x0;
+        sb.append("<rect x=\"").append(MARGIN + x0).append("\" y=\"").append(y)
+          .append("\" width=\"").append(width).append("\" height=\"").append(ROW_HEIGHT)
+          .append("\" fill=\"").append(color).append('"');
+        if (level < DENSITY_LEVELS) {
+            // Barra de densidade: fatias menores que um pixel somadas na coluna
+            sb.append(" fill-opacity=\"0.").append(level).append('"');
+        } else {
+            sb.append(" stroke=\"black\" stroke-width=\"1\"");
+        }
+        sb.append("><title>");
+        escape(label);
+        sb.append(": ").append((int) Math.floor(x0 / scale)).append('-').append((int) Math.ceil(x1 / scale))
+          .append("</title></rect>");
+        flushLine();
+
+        // Label de duração (se couber)
+        if (level == DENSITY_LEVELS && width > 25) {
+            sb.append("<text x=\"").append(MARGIN + x0 + width / 2).append("\" y=\"").append(y + ROW_HEIGHT / 2 + 3)
+              .append("\" text-anchor=\"middle\" font-size=\"10\" fill=\"white\">")
+              .append(Math.round(width / scale)).append("</text>");
+            flushLine();
+        }
+    }
+
+    // Soma a cobertura do intervalo [from, to) (em pixels fracionários) nas colunas
+    private static void addCoverage(double[] coverage, double[] best, int[] colors, double from, double to, int color) {
+        int first = (int) Math.floor(from);
+        int last = (int) Math.ceil(to) - 1;
+        last = Math.min(last, coverage.length - 1);
+        for (int x = Math.max(0, first); x <= last; x++) {
+            double a = Math.max(from, x);
+            double b = Math.min(to, x + 1);
+            if (b > a) {
+                coverage[x] += b - a;
+                if (b - a > best[x]) {
+                    best[x] = b - a;
+                    colors[x] = color;
+                }
+            }
+        }
+    }
+
+    // Nível de cobertura: 0 = vazio, DENSITY_LEVELS = coluna cheia
+    private static int level(double c) {
+        if (c <= 0.0) return 0;
+        if (c >= 0.999) return DENSITY_LEVELS;
+        return Math.max(1, Math.min(DENSITY_LEVELS - 1, (int) Math.round(c * DENSITY_LEVELS)));
+    }
+
+    // Passo da grade: 1, 2 ou 5 x 10^k, com no máximo MAX_AXIS_TICKS marcas
+    static int axisStep(int maxTime) {
+        long step = 1;
+        while (true) {
+            for (int m : new int[]{1, 2, 5}) {
+                long s = step * m;
+                if (maxTime / s <= MAX_AXIS_TICKS) return (int) s;
+            }
+            step *= 10;
+        }
+    }
+
+    private static int rowOf(int lane, int lanes, int rows) {
+        return (int) ((long) lane * rows / lanes);
+    }
+
+    private static int firstLane(int row, int lanes, int rows) {
+        // Menor raia cuja linha é row
+        return (int) (((long) row * lanes + rows - 1) / rows);
+    }
+
+    private void escape(String text) {
+        if (text == null) return;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<': sb.append("&lt;"); break;
+                case '>': sb.append("&gt;"); break;
+                case '&': sb.append("&amp;"); break;
+                case '"': sb.append("&quot;"); break;
+                default: sb.append(c);
+            }
+        }
+    }
+
+    private void line(String text) throws IOException {
+        sb.append(text);
+        flushLine();
+    }
+
+    private void flushLine() throws IOException {
+        sb.append('\n');
+        out.append(sb);
+        sb.setLength(0);
+    }
+}
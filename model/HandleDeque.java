@@ -0,0 +1,83 @@
+package model;
+
+import java.io.IOException;
+
+/**
+ * HandleDeque - Fila circular de handles da ProcessTable, sem boxing.
+ */
+public class HandleDeque {
+    private int[] items;
+    private int head;
+    private int size;
+
+    public HandleDeque() {
+        this(16);
+    }
+
+    public HandleDeque(int capacity) {
+        this.items = new int[Math.max(1, capacity)];
+    }
+
+    public void addLast(int handle) {
+        if (size == items.length) grow();
+        items[(head + size) % items.length] = handle;
+        size++;
+    }
+
+    public void addFirst(int handle) {
+        if (size == items.length) grow();
+        head = (head - 1 + items.length) % items.length;
+        items[head] = handle;
+        size++;
+    }
+
+    public int pollFirst() {
+        if (size == 0) return ProcessTable.NONE;
+        int handle = items[head];
+        head = (head + 1) % items.length;
+        size--;
+        return handle;
+    }
+
+    public int peekFirst() {
+        return size > 0 ? items[head] : ProcessTable.NONE;
+    }
+
+    // Elemento na posição i a partir da frente (0 = primeiro)
+    public int get(int i) {
+        return items[(head + i) % items.length];
+    }
+
+    private void grow() {
+        int[] bigger = new int[items.length * 2];
+        for (int i = 0; i < size; i++) {
+            bigger[i] = items[(head + i) % items.length];
+        }
+        items = bigger;
+        head = 0;
+    }
+
+    public int size() { return size; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    // Checkpoint: os handles da frente para o fim
+    public void writeState(StateWriter out) throws IOException {
+        out.writeInt(size);
+        for (int i = 0; i < size; i++) {
+            out.writeInt(get(i));
+        }
+    }
+
+    public void readState(StateReader in) throws IOException {
+        clear();
+        for (int i = in.readInt(); i > 0; i--) {
+            addLast(in.readInt());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package model;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * HandleHeap - Heap binário de handles da ProcessTable, sem boxing.
+ * A ordem é dada por um comparador sobre dois handles (negativo = primeiro handle antes).
+ */
+public class HandleHeap {
+    private final IntBinaryOperator comparator;
+    private int[] heap;
+    private int size;
+
+    public HandleHeap(IntBinaryOperator comparator) {
+        this(comparator, 16);
+    }
+
+    public HandleHeap(IntBinaryOperator comparator, int capacity) {
+        this.comparator = comparator;
+        this.heap = new int[Math.max(1, capacity)];
+    }
+
+    public void add(int handle) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, size * 2);
+        }
+        // Sobe o novo elemento até a posição correta
+        int i = size++;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            int p = heap[parent];
+            if (comparator.applyAsInt(handle, p) >= 0) break;
+            heap[i] = p;
+            i = parent;
+        }
+        heap[i] = handle;
+    }
+
+    public int peek() {
+        return size > 0 ? heap[0] : ProcessTable.NONE;
+    }
+
+    public int poll() {
+        if (size == 0) return ProcessTable.NONE;
+        int result = heap[0];
+        int last = heap[--size];
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        return result;
+    }
+
+    private void siftDown(int i, int handle) {
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < size && comparator.applyAsInt(heap[right], heap[child]) < 0) {
+                child = right;
+            }
+            if (comparator.applyAsInt(handle, heap[child]) <= 0) break;
+            heap[i] = heap[child];
+            i = child;
+        }
+        heap[i] = handle;
+    }
+
+    public int size() { return size; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    public void clear() { size = 0; }
+
+    // Checkpoint: o array do heap como está, para que os empates saiam na mesma ordem
+    public void writeState(StateWriter out) throws IOException {
+        out.writeInts(heap, size);
+    }
+
+    public void readState(StateReader in) throws IOException {
+        int[] items = in.readInts();
+        heap = Arrays.copyOf(items, Math.max(heap.length, Math.max(1, items.length)));
+        size = items.length;
+    }
+}
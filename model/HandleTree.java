@@ -0,0 +1,338 @@
+package model;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.IntBinaryOperator;
+
+/**
+ * HandleTree - Árvore rubro-negra de handles da ProcessTable, sem boxing, com o nó mais
+ * à esquerda em cache (como a árvore de prontos do CFS do Linux). Inserir e remover são
+ * O(log n) e consultar o primeiro é O(1). Handles com chave igual saem na ordem em que
+ * foram inseridos. A chave de um handle não pode mudar enquanto ele está na árvore.
+ */
+public class HandleTree {
+    // Nó sentinela (folhas e pai da raiz); o handle h ocupa o nó h + 1
+    private static final int NIL = 0;
+
+    private final IntBinaryOperator comparator;
+    private int[] left;
+    private int[] right;
+    private int[] parent;
+    private boolean[] red;
+    private boolean[] linked;
+    private int root = NIL;
+    private int leftmost = NIL;
+    private int size;
+
+    public HandleTree(IntBinaryOperator comparator) {
+        this(comparator, 16);
+    }
+
+    public HandleTree(IntBinaryOperator comparator, int capacity) {
+        this.comparator = comparator;
+        int nodes = Math.max(1, capacity) + 1;
+        left = new int[nodes];
+        right = new int[nodes];
+        parent = new int[nodes];
+        red = new boolean[nodes];
+        linked = new boolean[nodes];
+    }
+
+    public void add(int handle) {
+        ensure(handle + 1);
+        int z = handle + 1;
+        if (linked[z]) {
+            throw new IllegalStateException("Handle já está na árvore: " + handle);
+        }
+        // Desce até a folha; chaves iguais vão para a direita (ordem de inserção)
+        int y = NIL;
+        int x = root;
+        boolean less = false;
+        boolean isLeftmost = true;
+        while (x != NIL) {
+            y = x;
+            less = comparator.applyAsInt(handle, x - 1) < 0;
+            if (less) {
+                x = left[x];
+            } else {
+                x = right[x];
+                isLeftmost = false;
+            }
+        }
+        parent[z] = y;
+        if (y == NIL) {
+            root = z;
+        } else if (less) {
+            left[y] = z;
+        } else {
+            right[y] = z;
+        }
+        left[z] = NIL;
+        right[z] = NIL;
+        red[z] = true;
+        linked[z] = true;
+        if (isLeftmost) {
+            leftmost = z;
+        }
+        size++;
+        insertFixup(z);
+    }
+
+    // Remove o handle, se estiver na árvore
+    public boolean remove(int handle) {
+        int z = handle + 1;
+        if (z >= linked.length || !linked[z]) {
+            return false;
+        }
+        if (z == leftmost) {
+            leftmost = successor(z);
+        }
+        int y = z;
+        boolean removedRed = red[y];
+        int x;
+        if (left[z] == NIL) {
+            x = right[z];
+            transplant(z, right[z]);
+        } else if (right[z] == NIL) {
+            x = left[z];
+            transplant(z, left[z]);
+        } else {
+            // Dois filhos: o sucessor ocupa o lugar de z
+            y = minimum(right[z]);
+            removedRed = red[y];
+            x = right[y];
+            if (parent[y] == z) {
+                parent[x] = y;
+            } else {
+                transplant(y, right[y]);
+                right[y] = right[z];
+                parent[right[y]] = y;
+            }
+            transplant(z, y);
+            left[y] = left[z];
+            parent[left[y]] = y;
+            red[y] = red[z];
+        }
+        if (!removedRed) {
+            deleteFixup(x);
+        }
+        linked[z] = false;
+        size--;
+        return true;
+    }
+
+    public int peek() {
+        return leftmost != NIL ? leftmost - 1 : ProcessTable.NONE;
+    }
+
+    public int poll() {
+        int h = peek();
+        if (h != ProcessTable.NONE) {
+            remove(h);
+        }
+        return h;
+    }
+
+    public boolean contains(int handle) {
+        int z = handle + 1;
+        return z < linked.length && linked[z];
+    }
+
+    public int size() { return size; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    public void clear() {
+        Arrays.fill(linked, false);
+        root = NIL;
+        leftmost = NIL;
+        size = 0;
+    }
+
+    /**
+     * Checkpoint: os handles em ordem. A leitura os reinsere nessa ordem, então as chaves
+     * (ex.: vruntime) já devem ter sido restauradas; empates mantêm a ordem original.
+     */
+    public void writeState(StateWriter out) throws IOException {
+        out.writeInt(size);
+        for (int x = leftmost; x != NIL; x = successor(x)) {
+            out.writeInt(x - 1);
+        }
+    }
+
+    public void readState(StateReader in) throws IOException {
+        clear();
+        for (int i = in.readInt(); i > 0; i--) {
+            add(in.readInt());
+        }
+    }
+
+    private void insertFixup(int z) {
+        while (red[parent[z]]) {
+            int p = parent[z];
+            int g = parent[p];
+            if (p == left[g]) {
+                int uncle = right[g];
+                if (red[uncle]) {
+                    red[p] = false;
+                    red[uncle] = false;
+                    red[g] = true;
+                    z = g;
+                } else {
+                    if (z == right[p]) {
+                        z = p;
+                        rotateLeft(z);
+                        p = parent[z];
+                    }
+                    red[p] = false;
+                    red[g] = true;
+                    rotateRight(g);
+                }
+            } else {
+                int uncle = left[g];
+                if (red[uncle]) {
+                    red[p] = false;
+                    red[uncle] = false;
+                    red[g] = true;
+                    z = g;
+                } else {
+                    if (z == left[p]) {
+                        z = p;
+                        rotateRight(z);
+                        p = parent[z];
+                    }
+                    red[p] = false;
+                    red[g] = true;
+                    rotateLeft(g);
+                }
+            }
+        }
+        red[root] = false;
+    }
+
+    private void deleteFixup(int x) {
+        while (x != root && !red[x]) {
+            int p = parent[x];
+            if (x == left[p]) {
+                int w = right[p];
+                if (red[w]) {
+                    red[w] = false;
+                    red[p] = true;
+                    rotateLeft(p);
+                    w = right[p];
+                }
+                if (!red[left[w]] && !red[right[w]]) {
+                    red[w] = true;
+                    x = p;
+                } else {
+                    if (!red[right[w]]) {
+                        red[left[w]] = false;
+                        red[w] = true;
+                        rotateRight(w);
+                        w = right[p];
+                    }
+                    red[w] = red[p];
+                    red[p] = false;
+                    red[right[w]] = false;
+                    rotateLeft(p);
+                    x = root;
+                }
+            } else {
+                int w = left[p];
+                if (red[w]) {
+                    red[w] = false;
+                    red[p] = true;
+                    rotateRight(p);
+                    w = left[p];
+                }
+                if (!red[right[w]] && !red[left[w]]) {
+                    red[w] = true;
+                    x = p;
+                } else {
+                    if (!red[left[w]]) {
+                        red[right[w]] = false;
+                        red[w] = true;
+                        rotateLeft(w);
+                        w = left[p];
+                    }
+                    red[w] = red[p];
+                    red[p] = false;
+                    red[left[w]] = false;
+                    rotateRight(p);
+                    x = root;
+                }
+            }
+        }
+        red[x] = false;
+    }
+
+    private void rotateLeft(int x) {
+        int y = right[x];
+        right[x] = left[y];
+        if (left[y] != NIL) parent[left[y]] = x;
+        parent[y] = parent[x];
+        if (parent[x] == NIL) {
+            root = y;
+        } else if (x == left[parent[x]]) {
+            left[parent[x]] = y;
+        } else {
+            right[parent[x]] = y;
+        }
+        left[y] = x;
+        parent[x] = y;
+    }
+
+    private void rotateRight(int x) {
+        int y = left[x];
+        left[x] = right[y];
+        if (right[y] != NIL) parent[right[y]] = x;
+        parent[y] = parent[x];
+        if (parent[x] == NIL) {
+            root = y;
+        } else if (x == right[parent[x]]) {
+            right[parent[x]] = y;
+        } else {
+            left[parent[x]] = y;
+        }
+        right[y] = x;
+        parent[x] = y;
+    }
+
+    // Coloca v no lugar de u (o pai do sentinela também é ajustado, como exige a remoção)
+    private void transplant(int u, int v) {
+        if (parent[u] == NIL) {
+            root = v;
+        } else if (u == left[parent[u]]) {
+            left[parent[u]] = v;
+        } else {
+            right[parent[u]] = v;
+        }
+        parent[v] = parent[u];
+    }
+
+    private int minimum(int x) {
+        while (left[x] != NIL) x = left[x];
+        return x;
+    }
+
+    private int successor(int x) {
+        if (right[x] != NIL) return minimum(right[x]);
+        int y = parent[x];
+        while (y != NIL && x == right[y]) {
+            x = y;
+            y = parent[y];
+        }
+        return y;
+    }
+
+    private void ensure(int node) {
+        if (node >= left.length) {
+            int capacity = Math.max(node + 1, left.length * 2);
+            left = Arrays.copyOf(left, capacity);
+            right = Arrays.copyOf(right, capacity);
+            parent = Arrays.copyOf(parent, capacity);
+            red = Arrays.copyOf(red, capacity);
+            linked = Arrays.copyOf(linked, capacity);
+        }
+    }
+}
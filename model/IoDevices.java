@@ -0,0 +1,174 @@
+package model;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * IoDevices - Dispositivos de E/S de uma execução. Cada dispositivo atende um pedido
+ * por vez, em ordem de chegada; os demais processos esperam bloqueados na sua fila.
+ * Como a duração de cada pedido é conhecida, o término é calculado ao enfileirar, e uma
+ * TimingWheel com o primeiro término de cada dispositivo dá o próximo evento de E/S sem
+ * verificar os dispositivos a cada tick.
+ */
+public class IoDevices {
+    private final Map<String, Integer> indexes = new HashMap<>();
+    private String[] names = new String[4];
+    private Device[] devices = new Device[4];
+    private int deviceCount;
+
+    // Término do pedido em atendimento de cada dispositivo com fila (payload = dispositivo)
+    private final TimingWheel completions = new TimingWheel();
+    private int blocked;
+
+    /**
+     * Enfileira o pedido do processo h, feito no tick time; retorna o tick em que o
+     * dispositivo termina de atendê-lo (o processo volta a ficar pronto nesse tick).
+     */
+    public int request(int h, String device, int duration, int time) {
+        int index = indexOf(device);
+        Device d = devices[index];
+        int start = Math.max(time, d.busyUntil);
+        d.busyUntil = start + duration;
+        d.busyTicks += duration;
+        boolean wasEmpty = d.size == 0;
+        d.push(h, d.busyUntil);
+        blocked++;
+        if (wasEmpty) {
+            completions.schedule(d.busyUntil, index);
+        }
+        return d.busyUntil;
+    }
+
+    // Tick do próximo término de E/S, ou Integer.MAX_VALUE se nenhum processo está bloqueado
+    public int nextCompletion() {
+        return completions.nextTime();
+    }
+
+    /**
+     * Retira o próximo processo cujo pedido terminou até time, ou NONE. Términos no mesmo
+     * tick saem na ordem em que os atendimentos começaram a ser aguardados.
+     */
+    public int poll(int time) {
+        int index = completions.poll(time);
+        if (index == TimingWheel.NONE) {
+            return ProcessTable.NONE;
+        }
+        Device d = devices[index];
+        int h = d.pop();
+        d.served++;
+        blocked--;
+        if (d.size > 0) {
+            completions.schedule(d.headTime(), index);
+        }
+        return h;
+    }
+
+    // Processos esperando (ou sendo atendidos) em algum dispositivo
+    public int getBlockedCount() { return blocked; }
+
+    public int getDeviceCount() { return deviceCount; }
+
+    public String getDeviceName(int index) { return names[index]; }
+
+    // Ticks em que o dispositivo esteve (ou estará, para os pedidos já enfileirados) ocupado
+    public long getBusyTicks(int index) { return devices[index].busyTicks; }
+
+    public long getServed(int index) { return devices[index].served; }
+
+    public int getQueueLength(int index) { return devices[index].size; }
+
+    /**
+     * Checkpoint: filas, ocupação e estatísticas de cada dispositivo e a agenda de términos.
+     */
+    public void writeState(StateWriter out) throws IOException {
+        out.writeInt(deviceCount);
+        for (int i = 0; i < deviceCount; i++) {
+            Device d = devices[i];
+            out.writeString(names[i]);
+            out.writeInt(d.size);
+            for (int k = 0; k < d.size; k++) {
+                int slot = (d.head + k) % d.handles.length;
+                out.writeInt(d.handles[slot]);
+                out.writeInt(d.doneAt[slot]);
+            }
+            out.writeInt(d.busyUntil);
+            out.writeLong(d.busyTicks);
+            out.writeLong(d.served);
+        }
+        out.writeInt(blocked);
+        completions.writeState(out);
+    }
+
+    public void readState(StateReader in) throws IOException {
+        indexes.clear();
+        deviceCount = 0;
+        for (int n = in.readInt(); n > 0; n--) {
+            Device d = devices[indexOf(in.readString())];
+            for (int k = in.readInt(); k > 0; k--) {
+                d.push(in.readInt(), in.readInt());
+            }
+            d.busyUntil = in.readInt();
+            d.busyTicks = in.readLong();
+            d.served = in.readLong();
+        }
+        blocked = in.readInt();
+        completions.readState(in);
+    }
+
+    private int indexOf(String device) {
+        Integer index = indexes.get(device);
+        if (index != null) return index;
+        if (deviceCount == devices.length) {
+            names = Arrays.copyOf(names, deviceCount * 2);
+            devices = Arrays.copyOf(devices, deviceCount * 2);
+        }
+        names[deviceCount] = device;
+        devices[deviceCount] = new Device();
+        indexes.put(device, deviceCount);
+        return deviceCount++;
+    }
+
+    /**
+     * Fila circular de um dispositivo: handles e tick de término de cada pedido.
+     */
+    private static final class Device {
+        int[] handles = new int[8];
+        int[] doneAt = new int[8];
+        int head;
+        int size;
+        int busyUntil;
+        long busyTicks;
+        long served;
+
+        void push(int h, int time) {
+            if (size == handles.length) {
+                int[] newHandles = new int[size * 2];
+                int[] newDone = new int[size * 2];
+                for (int i = 0; i < size; i++) {
+                    newHandles[i] = handles[(head + i) % handles.length];
+                    newDone[i] = doneAt[(head + i) % handles.length];
+                }
+                handles = newHandles;
+                doneAt = newDone;
+                head = 0;
+            }
+            int tail = (head + size) % handles.length;
+            handles[tail] = h;
+            doneAt[tail] = time;
+            size++;
+        }
+
+        int pop() {
+            int h = handles[head];
+            head = (head + 1) % handles.length;
+            size--;
+            return h;
+        }
+
+        int headTime() {
+            return doneAt[head];
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package model;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * LogHistogram - Histograma log-linear de valores long não negativos (ex.: nanossegundos).
+ * Cada potência de 2 é dividida em 32 faixas, então o erro relativo dos quantis fica abaixo
+ * de ~3%, com um array fixo de contadores: record() não aloca nada.
+ * Um único thread grava; leituras de outros threads (amostragem ao vivo) são aproximadas.
+ */
+public class LogHistogram {
+    private static final int SUB_BITS = 5;
+    private static final int SUB = 1 << SUB_BITS;
+    private static final int BUCKETS = SUB * (64 - SUB_BITS);
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    public void record(long value) {
+        if (value < 0) value = 0;
+        counts[bucket(value)]++;
+        count++;
+        sum += value;
+        if (value < min) min = value;
+        if (value > max) max = value;
+    }
+
+    // Grava o mesmo valor n vezes (ex.: profundidade da fila durante n ticks)
+    public void record(long value, long n) {
+        if (n <= 0) return;
+        if (value < 0) value = 0;
+        counts[bucket(value)] += n;
+        count += n;
+        sum += value * n;
+        if (value < min) min = value;
+        if (value > max) max = value;
+    }
+
+    public void add(LogHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    public long getCount() { return count; }
+
+    public long getSum() { return sum; }
+
+    public long getMin() { return count > 0 ? min : 0; }
+
+    public long getMax() { return max; }
+
+    public double getMean() {
+        return count > 0 ? sum / (double) count : 0.0;
+    }
+
+    /**
+     * Valor do quantil q (0..1): ponto médio da faixa que o contém, limitado a [min, max].
+     */
+    public long getQuantile(double q) {
+        long total = count;
+        if (total == 0) return 0;
+        long rank = (long) Math.ceil(Math.max(0.0, Math.min(1.0, q)) * total);
+        if (rank < 1) rank = 1;
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                long value = lowerBound(i) + (width(i) - 1) / 2;
+                return Math.max(getMin(), Math.min(max, value));
+            }
+        }
+        return max;
+    }
+
+    static int bucket(long value) {
+        if (value < SUB) return (int) value;
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BITS;
+        return SUB * (shift + 1) + (int) (value >>> shift) - SUB;
+    }
+
+    private static long lowerBound(int bucket) {
+        if (bucket < SUB) return bucket;
+        int shift = bucket / SUB - 1;
+        return (long) (SUB + bucket % SUB) << shift;
+    }
+
+    private static long width(int bucket) {
+        return bucket < SUB ? 1 : 1L << (bucket / SUB - 1);
+    }
+
+    // Checkpoint: só as faixas não vazias (índice relativo à anterior e contagem)
+    void writeState(StateWriter out) throws IOException {
+        out.writeLong(count);
+        out.writeLong(sum);
+        out.writeLong(min);
+        out.writeLong(max);
+        int used = 0;
+        for (long c : counts) {
+            if (c != 0) used++;
+        }
+        out.writeInt(used);
+        int previous = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (counts[i] != 0) {
+                out.writeInt(i - previous);
+                out.writeLong(counts[i]);
+                previous = i;
+            }
+        }
+    }
+
+    void readState(StateReader in) throws IOException {
+        count = in.readLong();
+        sum = in.readLong();
+        min = in.readLong();
+        max = in.readLong();
+        Arrays.fill(counts, 0);
+        int used = in.readInt();
+        int bucket = 0;
+        for (int i = 0; i < used; i++) {
+            bucket += in.readInt();
+            if (bucket < 0 || bucket >= BUCKETS) {
+                throw new IOException("Histograma inválido no checkpoint.");
+            }
+            counts[bucket] = in.readLong();
+        }
+    }
+
+    // Resumo em JSON: contagem, média, quantis e extremos
+    void appendJson(StringBuilder sb) {
+        sb.append("{\"count\":").append(count)
+          .append(",\"mean\":").append(String.format(java.util.Locale.ROOT, "%.2f", getMean()))
+          .append(",\"min\":").append(getMin())
+          .append(",\"p50\":").append(getQuantile(0.50))
+          .append(",\"p90\":").append(getQuantile(0.90))
+          .append(",\"p99\":").append(getQuantile(0.99))
+          .append(",\"p999\":").append(getQuantile(0.999))
+          .append(",\"max\":").append(max).append('}');
+    }
+}
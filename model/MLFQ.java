@@ -0,0 +1,206 @@
+package model;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+public class MLFQ implements Scheduler {
+    // Multi-Level Feedback Queue: um nível por quantum (nível 0 = maior prioridade, menor quantum).
+    // Processos novos entram no nível 0; quem esgota o quantum desce um nível; quem volta de E/S
+    // mantém o nível. A cada boostInterval ticks todos voltam para o nível 0 (evita inanição).
+    // Os níveis são filas com bitmap (ReadyLevels): escolher o próximo e o boost não dependem
+    // do número de processos.
+    private final int[] quantums;
+    private final ReadyLevels ready;
+    private int boostInterval;
+
+    private ProcessTable table;
+    private int[] levels = new int[16];
+    private int[] epochs = new int[16]; // boost em que o nível do processo foi definido
+    private int epoch;
+    private int lastBoost;
+
+    public MLFQ(int[] quantums) {
+        if (quantums == null || quantums.length == 0) {
+            quantums = new int[]{1};
+        }
+        if (quantums.length == 1) {
+            // Só um quantum: três níveis, dobrando o quantum a cada nível
+            int q = Math.max(1, quantums[0]);
+            quantums = new int[]{q, 2 * q, 4 * q};
+        }
+        this.quantums = quantums.clone();
+        this.ready = new ReadyLevels(this.quantums.length);
+        this.boostInterval = 20 * this.quantums[this.quantums.length - 1];
+    }
+
+    // Ticks entre boosts (0 desliga)
+    public void setBoostInterval(int boostInterval) {
+        this.boostInterval = Math.max(0, boostInterval);
+    }
+
+    public int getBoostInterval() { return boostInterval; }
+
+    public int[] getQuantums() { return quantums.clone(); }
+
+    // Nível atual do processo
+    public int getLevel(int handle) {
+        return handle < levels.length && epochs[handle] == epoch ? levels[handle] : 0;
+    }
+
+    @Override
+    public Process nextProcess(List<Process> processes, int currentTime) {
+        // Sem estado todos estão no nível 0: escolhe o que chegou primeiro (como o FIFO).
+        if (processes == null || processes.isEmpty()) {
+            return null;
+        }
+        Process chosen = null;
+        for (Process p : processes) {
+            if (p == null || p.isCompleted() || p.getStartTime() > currentTime) continue;
+            if (chosen == null || p.getStartTime() < chosen.getStartTime()
+                    || (p.getStartTime() == chosen.getStartTime() && p.getId() != null && chosen.getId() != null
+                        && p.getId().compareTo(chosen.getId()) < 0)) {
+                chosen = p;
+            }
+        }
+        return chosen;
+    }
+
+    @Override
+    public void bind(ProcessTable table) {
+        this.table = table;
+        ready.clear();
+        Arrays.fill(epochs, 0);
+        epoch = 1;
+        lastBoost = 0;
+    }
+
+    @Override
+    public void onArrival(int handle) {
+        ensure(handle);
+        // Processo novo (nada executado) começa no topo; quem volta de E/S mantém o nível
+        if (table.getRunTime(handle) == 0 || epochs[handle] != epoch) {
+            setLevel(handle, 0);
+        }
+        ready.addLast(levels[handle], handle);
+    }
+
+    @Override
+    public void onPreempt(int handle) {
+        ensure(handle);
+        // Esgotou o quantum: desce um nível
+        int level = epochs[handle] == epoch ? levels[handle] : 0;
+        setLevel(handle, Math.min(level + 1, quantums.length - 1));
+        ready.addLast(levels[handle], handle);
+    }
+
+    @Override
+    public void onComplete(int handle) {
+        // Nada a fazer: o processo em execução não está nas filas.
+    }
+
+    @Override
+    public int pickNext(int currentTime) {
+        // Com a fila vazia (CPU ociosa) não há o que reordenar: o boost espera a próxima escolha
+        // com prontos, e acontece no mesmo tick nos modos por ticks e orientado a eventos
+        if (boostInterval > 0 && !ready.isEmpty() && currentTime - lastBoost >= boostInterval) {
+            boost();
+            lastBoost = currentTime;
+        }
+        return ready.pollFirst();
+    }
+
+    @Override
+    public boolean supportsMigration() {
+        return true;
+    }
+
+    @Override
+    public int migrateOut(int currentTime) {
+        // Sem boost: o boost é da fila de origem e acontece na sua próxima escolha
+        return ready.pollFirst();
+    }
+
+    @Override
+    public long migrationState(int handle) {
+        return getLevel(handle);
+    }
+
+    @Override
+    public void migrateIn(int handle, long state) {
+        // Mantém o nível da fila de origem (no período de boost desta fila)
+        ensure(handle);
+        setLevel(handle, (int) Math.min(state, quantums.length - 1));
+        ready.addLast(levels[handle], handle);
+    }
+
+    @Override
+    public int quantumFor(int handle, int defaultQuantum) {
+        return quantums[getLevel(handle)];
+    }
+
+    @Override
+    public int readyCount() {
+        return ready.size();
+    }
+
+    @Override
+    public String getName() {
+        return "MLFQ";
+    }
+
+    @Override
+    public boolean supportsCheckpoint() {
+        return true;
+    }
+
+    @Override
+    public void writeState(StateWriter out) throws IOException {
+        out.writeInts(quantums, quantums.length);
+        out.writeInt(boostInterval);
+        out.writeInt(epoch);
+        out.writeInt(lastBoost);
+        out.writeInts(levels, levels.length);
+        out.writeInts(epochs, epochs.length);
+        ready.writeState(out);
+    }
+
+    @Override
+    public void readState(StateReader in) throws IOException {
+        if (!Arrays.equals(in.readInts(), quantums)) {
+            throw new IOException("Checkpoint com outros níveis do MLFQ.");
+        }
+        boostInterval = in.readInt();
+        epoch = in.readInt();
+        lastBoost = in.readInt();
+        levels = in.readInts();
+        epochs = in.readInts();
+        if (levels.length != epochs.length) {
+            throw new IOException("Estado do MLFQ inválido no checkpoint.");
+        }
+        ready.readState(in);
+    }
+
+    private void boost() {
+        // Novo período: todos voltam ao nível 0, na ordem dos níveis. As filas de baixo são
+        // emendadas no fim do nível 0 (O(níveis), sem tocar nos processos): o nível guardado de
+        // cada um fica com o epoch antigo e conta como 0, como o de quem está executando ou em E/S.
+        epoch++;
+        for (int level = 1; level < quantums.length; level++) {
+            ready.moveAll(level, 0);
+        }
+    }
+
+    private void setLevel(int handle, int level) {
+        levels[handle] = level;
+        epochs[handle] = epoch;
+    }
+
+    private void ensure(int handle) {
+        if (handle >= levels.length) {
+            int capacity = Math.max(handle + 1, levels.length * 2);
+            levels = Arrays.copyOf(levels, capacity);
+            epochs = Arrays.copyOf(epochs, capacity);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package model;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Locale;
+
+/**
+ * MetricsRegistry - Métricas de uma execução: latência de cada decisão do escalonador,
+ * profundidade da fila de prontos, trocas de contexto, ociosidade, tempo de despacho dos
+ * listeners do clock e ticks por segundo. Gravar só atualiza contadores e histogramas
+ * pré-alocados (sem alocação no caminho do tick). Exporta JSON ou CSV no fim da execução
+ * e pode ser amostrado ao vivo por uma thread de fundo.
+ */
+public class MetricsRegistry {
+    private final LogHistogram decisionLatency = new LogHistogram();
+    private final LogHistogram readyQueueDepth = new LogHistogram();
+    private final LogHistogram listenerDispatch = new LogHistogram();
+
+    private volatile long contextSwitches;
+    private volatile long busyTicks;
+    private volatile int simulatedTime;
+    private volatile long startNanos;
+    private volatile long endNanos;
+
+    private Thread sampler;
+    private volatile boolean sampling;
+
+    // Início da medição de tempo real (chamado pelo controlador ao iniciar)
+    public void start() {
+        startNanos = System.nanoTime();
+        endNanos = 0;
+    }
+
+    public void finish(int finalTime) {
+        simulatedTime = finalTime;
+        endNanos = System.nanoTime();
+    }
+
+    // Uma escolha do escalonador: duração e tamanho da fila de prontos antes da escolha
+    public void recordDecision(long nanos, int readyCount) {
+        decisionLatency.record(nanos);
+        readyQueueDepth.record(readyCount);
+    }
+
+    public void recordContextSwitch() {
+        contextSwitches++;
+    }
+
+    // Ticks em que a CPU executou algum processo
+    public void recordBusy(int ticks) {
+        busyTicks += ticks;
+    }
+
+    public void recordListenerDispatch(long nanos) {
+        listenerDispatch.record(nanos);
+    }
+
+    public void setSimulatedTime(int time) {
+        simulatedTime = time;
+    }
+
+    public LogHistogram getDecisionLatency() { return decisionLatency; }
+    public LogHistogram getReadyQueueDepth() { return readyQueueDepth; }
+    public LogHistogram getListenerDispatch() { return listenerDispatch; }
+    public long getContextSwitches() { return contextSwitches; }
+    public long getBusyTicks() { return busyTicks; }
+    public int getSimulatedTime() { return simulatedTime; }
+
+    public double getIdleRatio() {
+        int time = simulatedTime;
+        return time > 0 ? Math.max(0.0, 1.0 - busyTicks / (double) time) : 0.0;
+    }
+
+    public double getTicksPerSecond() {
+        long start = startNanos;
+        if (start == 0) return 0.0;
+        long end = endNanos != 0 ? endNanos : System.nanoTime();
+        return end > start ? simulatedTime * 1_000_000_000.0 / (end - start) : 0.0;
+    }
+
+    public String toJson() {
+        StringBuilder sb = new StringBuilder(512);
+        sb.append("{\"simulatedTime\":").append(simulatedTime)
+          .append(",\"ticksPerSecond\":").append(String.format(Locale.ROOT, "%.1f", getTicksPerSecond()))
+          .append(",\"contextSwitches\":").append(contextSwitches)
+          .append(",\"idleRatio\":").append(String.format(Locale.ROOT, "%.4f", getIdleRatio()))
+          .append(",\"decisionLatencyNs\":");
+        decisionLatency.appendJson(sb);
+        sb.append(",\"readyQueueDepth\":");
+        readyQueueDepth.appendJson(sb);
+        sb.append(",\"listenerDispatchNs\":");
+        listenerDispatch.appendJson(sb);
+        return sb.append("}\n").toString();
+    }
+
+    /**
+     * CSV no formato metrica,valor (uma linha por valor).
+     */
+    public String toCsv() {
+        StringBuilder sb = new StringBuilder(1024);
+        sb.append("metric,value\n");
+        sb.append("simulatedTime,").append(simulatedTime).append('\n');
+        sb.append("ticksPerSecond,").append(String.format(Locale.ROOT, "%.1f", getTicksPerSecond())).append('\n');
+        sb.append("contextSwitches,").append(contextSwitches).append('\n');
+        sb.append("idleRatio,").append(String.format(Locale.ROOT, "%.4f", getIdleRatio())).append('\n');
+        appendCsv(sb, "decisionLatencyNs", decisionLatency);
+        appendCsv(sb, "readyQueueDepth", readyQueueDepth);
+        appendCsv(sb, "listenerDispatchNs", listenerDispatch);
+        return sb.toString();
+    }
+
+    private static void appendCsv(StringBuilder sb, String name, LogHistogram h) {
+        sb.append(name).append(".count,").append(h.getCount()).append('\n');
+        sb.append(name).append(".mean,").append(String.format(Locale.ROOT, "%.2f", h.getMean())).append('\n');
+        sb.append(name).append(".p50,").append(h.getQuantile(0.50)).append('\n');
+        sb.append(name).append(".p99,").append(h.getQuantile(0.99)).append('\n');
+        sb.append(name).append(".p999,").append(h.getQuantile(0.999)).append('\n');
+        sb.append(name).append(".max,").append(h.getMax()).append('\n');
+    }
+
+    /**
+     * Amostragem ao vivo: a cada periodMillis escreve uma linha CSV com o estado atual.
+     */
+    public synchronized void startSampling(Writer out, long periodMillis) {
+        if (sampling) return;
+        sampling = true;
+        long origin = System.nanoTime();
+        sampler = new Thread(() -> {
+            try {
+                out.write("wallMs,simulatedTime,ticksPerSecond,contextSwitches,idleRatio,"
+                        + "readyQueueP50,readyQueueMax,decisionP99Ns\n");
+                while (sampling) {
+                    out.write(String.format(Locale.ROOT, "%d,%d,%.1f,%d,%.4f,%d,%d,%d%n",
+                            (System.nanoTime() - origin) / 1_000_000, simulatedTime, getTicksPerSecond(),
+                            contextSwitches, getIdleRatio(), readyQueueDepth.getQuantile(0.5),
+                            readyQueueDepth.getMax(), decisionLatency.getQuantile(0.99)));
+                    out.flush();
+                    Thread.sleep(Math.max(1L, periodMillis));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, "Metrics-Sampler");
+        sampler.setDaemon(true);
+        sampler.start();
+    }
+
+    public synchronized void stopSampling() {
+        if (!sampling) return;
+        sampling = false;
+        sampler.interrupt();
+        try {
+            sampler.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        sampler = null;
+    }
+}
@@ -1,8 +1,23 @@
 package model;
 
+import java.io.IOException;
 import java.util.List;
 
 public class PRIOP implements Scheduler {
+	// Heap de prontos: maior prioridade primeiro, desempate por startTime, id e por fim
+	// a ordem na tabela.
+	private ProcessTable table;
+	private final HandleHeap readyQueue = new HandleHeap(this::compare);
+
+	private int compare(int a, int b) {
+		int c = Integer.compare(table.getPriority(b), table.getPriority(a));
+		if (c != 0) return c;
+		c = Integer.compare(table.getStartTime(a), table.getStartTime(b));
+		if (c != 0) return c;
+		c = table.compareIds(a, b);
+		if (c != 0) return c;
+		return Integer.compare(a, b);
+	}
 
 	@Override
 	public Process nextProcess(List<Process> processes, int currentTime) {
@@ -58,6 +73,58 @@ public class PRIOP implements Scheduler {
 		return chosen;
 	}
 
+	@Override
+	public void bind(ProcessTable table) {
+		this.table = table;
+		readyQueue.clear();
+	}
+
+	@Override
+	public void onArrival(int handle) {
+		readyQueue.add(handle);
+	}
+
+	@Override
+	public void onPreempt(int handle) {
+		readyQueue.add(handle);
+	}
+
+	@Override
+	public void onComplete(int handle) {
+		// Nada a fazer: o processo em execução não está no heap.
+	}
+
+	@Override
+	public int pickNext(int currentTime) {
+		return readyQueue.poll();
+	}
+
+	@Override
+	public boolean supportsMigration() {
+		// A ordem vem só da prioridade, guardada na tabela: o heap de destino a reaplica
+		return true;
+	}
+
+	@Override
+	public int readyCount() {
+		return readyQueue.size();
+	}
+
+	@Override
+	public boolean supportsCheckpoint() {
+		return true;
+	}
+
+	@Override
+	public void writeState(StateWriter out) throws IOException {
+		readyQueue.writeState(out);
+	}
+
+	@Override
+	public void readState(StateReader in) throws IOException {
+		readyQueue.readState(in);
+	}
+
 	@Override
 	public String getName() {
 		return "PRIOP";
@@ -3,94 +3,119 @@ package model;
 import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Process - Visão de uma linha da ProcessTable. Os dados ficam na tabela; este objeto
+ * guarda só a referência da tabela e o handle, e é mantido para a UI e o código legado.
+ */
 public class Process {
-    // Atributos de processo
-    private String id;
-    private int color;
-    private int startTime;
-    private int duration;
-    private int priority;
-
-    // Atributos de estado de processo
-    private boolean isCompleted;
-    private int runTime;
-    private int waitTime;
-
-    private List<Event> eventList;
-    private String state; // "NEW", "READY", "RUNNING", "WAITING", "TERMINATED"
-
-    // Instanciador
+    private ProcessTable table;
+    private int handle;
+
+    // Instanciador: processo avulso, com uma tabela própria de uma linha
     public Process() {
-        this.eventList = new ArrayList<>();
-        this.state = "NEW";
-        this.isCompleted = false;
-        this.runTime = 0;
-        this.waitTime = 0;
+        this.table = new ProcessTable(1);
+        this.handle = table.add(null, 0, 0, 0, 0);
     }
 
-    // Getters e Setters
-    public String getId() { return id; }
-    public void setId(String id) { this.id = id; }
+    // Visão de um processo já existente na tabela
+    Process(ProcessTable table, int handle) {
+        this.table = table;
+        this.handle = handle;
+    }
 
-    public int getColor() { return color; }
-    public void setColor(int color) { this.color = color; }
+    // Copia o processo para outra tabela e passa a apontar para a nova linha
+    void moveTo(ProcessTable target) {
+        int h = target.addFrom(table, handle);
+        this.table = target;
+        this.handle = h;
+    }
+
+    public ProcessTable getTable() { return table; }
+    public int getHandle() { return handle; }
 
-    public int getStartTime() { return startTime; }
-    public void setStartTime(int startTime) { this.startTime = startTime; }
+    // Getters e Setters
+    public String getId() { return table.getId(handle); }
+    public void setId(String id) { table.setId(handle, id); }
 
-    public int getDuration() { return duration; }
-    public void setDuration(int duration) { this.duration = duration; }
+    public int getColor() { return table.getColor(handle); }
+    public void setColor(int color) { table.setColor(handle, color); }
 
-    public int getPriority() { return priority; }
-    public void setPriority(int priority) { this.priority = priority; }
+    public int getStartTime() { return table.getStartTime(handle); }
+    public void setStartTime(int startTime) { table.setStartTime(handle, startTime); }
 
-    public boolean isCompleted() { return isCompleted; }
-    public void setCompleted(boolean completed) { isCompleted = completed; }
+    public int getDuration() { return table.getDuration(handle); }
+    public void setDuration(int duration) { table.setDuration(handle, duration); }
 
-    public int getRunTime() { return runTime; }
-    public void setRunTime(int runTime) { this.runTime = runTime; }
+    public int getPriority() { return table.getPriority(handle); }
+    public void setPriority(int priority) { table.setPriority(handle, priority); }
 
-    public int getWaitTime() { return waitTime; }
-    public void setWaitTime(int waitTime) { this.waitTime = waitTime; }
+    public boolean isCompleted() { return table.isCompleted(handle); }
+    public void setCompleted(boolean completed) {
+        if (completed) {
+            table.setState(handle, ProcessTable.TERMINATED);
+        } else if (table.isCompleted(handle)) {
+            table.setState(handle, ProcessTable.NEW);
+        }
+    }
 
-    public List<Event> getEventList() { return eventList; }
-    public void setEventList(List<Event> eventList) { this.eventList = eventList; }
+    public int getRunTime() { return table.getRunTime(handle); }
+    public void setRunTime(int runTime) { table.setRunTime(handle, runTime); }
 
-    public String getState() { return state; }
-    public void setState(String state) { this.state = state; }
+    public int getWaitTime() { return table.getWaitTime(handle); }
+    public void setWaitTime(int waitTime) { table.setWaitTime(handle, waitTime); }
 
-    // Roda um tick de execução
-    public void executeTick() {
-        if (!isCompleted) {
-            runTime++;
-            if (runTime >= duration) {
-                isCompleted = true;
-                state = "TERMINATED";
-            } else {
-                state = "RUNNING";
-            }
+    public List<Event> getEventList() {
+        // Alocada só quando alguém pede a lista
+        List<Event> events = table.getEventList(handle);
+        if (events == null) {
+            events = new ArrayList<>();
+            table.setEventList(handle, events);
         }
+        return events;
     }
+    public void setEventList(List<Event> eventList) { table.setEventList(handle, eventList); }
+
+    public String getState() { return ProcessTable.stateName(table.getState(handle)); }
+    public void setState(String state) { table.setState(handle, ProcessTable.stateCode(state)); }
+
+    // Roda um tick de execução
+    public void executeTick() { table.executeTick(handle); }
+
+    // Roda vários ticks de execução de uma vez (modo orientado a eventos)
+    public void executeTicks(int ticks) { table.executeTicks(handle, ticks); }
 
     // Roda um tick de espera
-    public void waitTick() {
-        if (!isCompleted) {
-            waitTime++;
-            state = "WAITING";
-        }
-    }
+    public void waitTick() { table.waitTick(handle); }
+
+    // Marca o tick em que o processo entrou na fila de prontos
+    public void markReady(int time) { table.markReady(handle, time); }
+
+    // Processo escolhido no tick time: soma a espera acumulada desde markReady
+    public void markDispatched(int time) { table.markDispatched(handle, time); }
+
+    // Soma a espera em aberto até time sem tirar o processo da fila (ex.: fim antecipado)
+    public void flushWait(int time) { table.flushWait(handle, time); }
 
     // Reseta o processo
-    public void reset() {
-        runTime = 0;
-        waitTime = 0;
-        isCompleted = false;
-        state = "NEW";
+    public void reset() { table.reset(handle); }
+
+    @Override
+    public boolean equals(Object o) {
+        // Duas visões são o mesmo processo se apontam para a mesma linha da mesma tabela
+        if (this == o) return true;
+        if (!(o instanceof Process)) return false;
+        Process other = (Process) o;
+        return table == other.table && handle == other.handle;
+    }
+
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(table) * 31 + handle;
     }
 
     @Override
     public String toString() {
         return String.format("Process %s [start=%d, duration=%d, priority=%d, state=%s]",
-                id, startTime, duration, priority, state);
+                getId(), getStartTime(), getDuration(), getPriority(), getState());
     }
 }
@@ -0,0 +1,105 @@
+package model;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * ProcessSource - Fonte de processos em ordem de ingresso (startTime, depois id).
+ * O controlador puxa cada processo só quando ele chega, então fontes de streaming
+ * não precisam manter a carga inteira em memória.
+ */
+public interface ProcessSource extends Closeable {
+    // Ainda há processos a chegar
+    boolean hasNext();
+
+    // startTime do próximo processo (só válido se hasNext())
+    int peekStartTime();
+
+    // Coloca o próximo processo na tabela (se ainda não estiver) e retorna seu handle
+    int next(ProcessTable table);
+
+    // true se os processos são criados na tabela sob demanda; nesse caso o controlador
+    // pode liberar as linhas dos processos concluídos para manter a memória constante
+    default boolean isStreaming() {
+        return true;
+    }
+
+    // Nova fonte com a mesma sequência de processos desde o início (ex.: para outra
+    // execução de uma varredura, em SimulationConfig.withRun); a fonte atual não é afetada
+    ProcessSource restart();
+
+    // Posição na sequência, para checkpoints. readState é chamado numa fonte nova com a
+    // mesma sequência (mesma configuração) e a leva ao ponto salvo sem regerar o que passou.
+    // Só fontes que retornam true em supportsCheckpoint os implementam.
+    default boolean supportsCheckpoint() {
+        return false;
+    }
+
+    default void writeState(StateWriter out) throws IOException {
+        throw new UnsupportedOperationException("Fonte de processos não suporta checkpoint.");
+    }
+
+    default void readState(StateReader in) throws IOException {
+        throw new UnsupportedOperationException("Fonte de processos não suporta checkpoint.");
+    }
+
+    // Libera o que a fonte mantém aberto (ex.: o arquivo mapeado); o controlador chama ao
+    // terminar a execução. Por padrão não há nada a liberar.
+    @Override
+    default void close() throws IOException {
+    }
+
+    /**
+     * Fonte sobre uma tabela já carregada, na ordem de arrivalOrder().
+     */
+    static ProcessSource of(ProcessTable table) {
+        int[] order = table.arrivalOrder();
+        return new ProcessSource() {
+            private int next = 0;
+
+            @Override
+            public boolean hasNext() {
+                return next < order.length;
+            }
+
+            @Override
+            public int peekStartTime() {
+                return table.getStartTime(order[next]);
+            }
+
+            @Override
+            public int next(ProcessTable target) {
+                return order[next++];
+            }
+
+            @Override
+            public boolean isStreaming() {
+                return false;
+            }
+
+            @Override
+            public ProcessSource restart() {
+                return ProcessSource.of(table);
+            }
+
+            @Override
+            public boolean supportsCheckpoint() {
+                return true;
+            }
+
+            @Override
+            public void writeState(StateWriter out) throws IOException {
+                out.writeInt(order.length);
+                out.writeInt(next);
+            }
+
+            @Override
+            public void readState(StateReader in) throws IOException {
+                if (in.readInt() != order.length) {
+                    throw new IOException("Checkpoint de outra lista de processos.");
+                }
+                next = in.readInt();
+            }
+        };
+    }
+}
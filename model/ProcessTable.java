@@ -0,0 +1,483 @@
+package model;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ProcessTable - Tabela de processos em arrays paralelos (struct-of-arrays).
+ * Cada processo é identificado por um handle inteiro (índice da linha) e o estado
+ * é um código byte. Process é apenas uma visão sobre uma linha desta tabela.
+ */
+public class ProcessTable {
+    // Códigos de estado
+    public static final byte NEW = 0;
+    public static final byte READY = 1;
+    public static final byte RUNNING = 2;
+    public static final byte WAITING = 3;
+    public static final byte TERMINATED = 4;
+
+    private static final String[] STATE_NAMES = {"NEW", "READY", "RUNNING", "WAITING", "TERMINATED"};
+
+    // Handle inválido (ex.: CPU ociosa)
+    public static final int NONE = -1;
+
+    private int size;
+
+    // Atributos de processo
+    private String[] ids;
+    private int[] colors;
+    private int[] startTimes;
+    private int[] durations;
+    private int[] priorities;
+
+    // Atributos de estado de processo
+    private int[] runTimes;
+    private int[] waitTimes;
+    private int[] readySince; // tick em que entrou na fila de prontos (-1 se não está)
+    private byte[] states;
+
+    // Lista de eventos só é alocada para processos que têm eventos
+    private List<Event>[] eventLists;
+    // Próximo pedido de E/S de cada processo (índice na sua lista de eventos)
+    private int[] eventCursors;
+
+    // Linhas liberadas (processos concluídos em modo streaming) reaproveitadas pelo add()
+    private int[] freeHandles = new int[0];
+    private int freeCount;
+
+    public ProcessTable() {
+        this(16);
+    }
+
+    public ProcessTable(int capacity) {
+        capacity = Math.max(1, capacity);
+        ids = new String[capacity];
+        colors = new int[capacity];
+        startTimes = new int[capacity];
+        durations = new int[capacity];
+        priorities = new int[capacity];
+        runTimes = new int[capacity];
+        waitTimes = new int[capacity];
+        readySince = new int[capacity];
+        states = new byte[capacity];
+    }
+
+    /**
+     * Adiciona um processo e retorna seu handle.
+     */
+    public int add(String id, int color, int startTime, int duration, int priority) {
+        int h;
+        if (freeCount > 0) {
+            h = freeHandles[--freeCount];
+            runTimes[h] = 0;
+            waitTimes[h] = 0;
+        } else {
+            if (size == ids.length) {
+                grow(size * 2);
+            }
+            h = size++;
+        }
+        ids[h] = id;
+        colors[h] = color;
+        startTimes[h] = startTime;
+        durations[h] = duration;
+        priorities[h] = priority;
+        readySince[h] = -1;
+        states[h] = NEW;
+        if (eventCursors != null) {
+            eventCursors[h] = 0;
+        }
+        return h;
+    }
+
+    /**
+     * Copia uma linha de outra tabela (ex.: um Process avulso) e retorna o novo handle.
+     */
+    public int addFrom(ProcessTable other, int handle) {
+        int h = add(other.ids[handle], other.colors[handle], other.startTimes[handle],
+                other.durations[handle], other.priorities[handle]);
+        runTimes[h] = other.runTimes[handle];
+        waitTimes[h] = other.waitTimes[handle];
+        readySince[h] = other.readySince[handle];
+        states[h] = other.states[handle];
+        List<Event> events = other.getEventList(handle);
+        if (events != null) {
+            setEventList(h, events);
+            eventCursors[h] = other.eventCursors[handle];
+        }
+        return h;
+    }
+
+    /**
+     * Cópia independente da tabela, para que cada execução tenha seu próprio estado.
+     */
+    public ProcessTable copy() {
+        ProcessTable t = new ProcessTable(size);
+        t.size = size;
+        System.arraycopy(ids, 0, t.ids, 0, size);
+        System.arraycopy(colors, 0, t.colors, 0, size);
+        System.arraycopy(startTimes, 0, t.startTimes, 0, size);
+        System.arraycopy(durations, 0, t.durations, 0, size);
+        System.arraycopy(priorities, 0, t.priorities, 0, size);
+        System.arraycopy(runTimes, 0, t.runTimes, 0, size);
+        System.arraycopy(waitTimes, 0, t.waitTimes, 0, size);
+        System.arraycopy(readySince, 0, t.readySince, 0, size);
+        System.arraycopy(states, 0, t.states, 0, size);
+        if (eventLists != null) {
+            t.eventLists = Arrays.copyOf(eventLists, Math.max(1, size));
+            t.eventCursors = Arrays.copyOf(eventCursors, Math.max(1, size));
+        }
+        return t;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void grow(int capacity) {
+        capacity = Math.max(capacity, 1);
+        ids = Arrays.copyOf(ids, capacity);
+        colors = Arrays.copyOf(colors, capacity);
+        startTimes = Arrays.copyOf(startTimes, capacity);
+        durations = Arrays.copyOf(durations, capacity);
+        priorities = Arrays.copyOf(priorities, capacity);
+        runTimes = Arrays.copyOf(runTimes, capacity);
+        waitTimes = Arrays.copyOf(waitTimes, capacity);
+        readySince = Arrays.copyOf(readySince, capacity);
+        states = Arrays.copyOf(states, capacity);
+        if (eventLists != null) {
+            eventLists = Arrays.copyOf(eventLists, capacity);
+            eventCursors = Arrays.copyOf(eventCursors, capacity);
+        }
+    }
+
+    /**
+     * Libera a linha de um processo que não será mais consultado; o handle pode ser
+     * reaproveitado pelo próximo add(). Usado em streaming para manter a tabela pequena.
+     */
+    public void release(int h) {
+        ids[h] = null;
+        if (eventLists != null) {
+            eventLists[h] = null;
+        }
+        readySince[h] = -1;
+        states[h] = TERMINATED;
+        if (freeCount == freeHandles.length) {
+            freeHandles = Arrays.copyOf(freeHandles, Math.max(16, freeCount * 2));
+        }
+        freeHandles[freeCount++] = h;
+    }
+
+    // Número de linhas já usadas (inclui linhas liberadas, ainda não reaproveitadas)
+    public int size() { return size; }
+
+    // Getters e Setters por handle
+    public String getId(int h) { return ids[h]; }
+    public void setId(int h, String id) { ids[h] = id; }
+
+    public int getColor(int h) { return colors[h]; }
+    public void setColor(int h, int color) { colors[h] = color; }
+
+    public int getStartTime(int h) { return startTimes[h]; }
+    public void setStartTime(int h, int startTime) { startTimes[h] = startTime; }
+
+    public int getDuration(int h) { return durations[h]; }
+    public void setDuration(int h, int duration) { durations[h] = duration; }
+
+    public int getPriority(int h) { return priorities[h]; }
+    public void setPriority(int h, int priority) { priorities[h] = priority; }
+
+    public int getRunTime(int h) { return runTimes[h]; }
+    public void setRunTime(int h, int runTime) { runTimes[h] = runTime; }
+
+    public int getWaitTime(int h) { return waitTimes[h]; }
+    public void setWaitTime(int h, int waitTime) { waitTimes[h] = waitTime; }
+
+    public byte getState(int h) { return states[h]; }
+    public void setState(int h, byte state) { states[h] = state; }
+
+    public boolean isCompleted(int h) { return states[h] == TERMINATED; }
+
+    public int getRemaining(int h) { return Math.max(0, durations[h] - runTimes[h]); }
+
+    public List<Event> getEventList(int h) {
+        return eventLists != null ? eventLists[h] : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void setEventList(int h, List<Event> events) {
+        if (eventLists == null) {
+            if (events == null) return;
+            eventLists = (List<Event>[]) new List<?>[ids.length];
+            eventCursors = new int[ids.length];
+        }
+        eventLists[h] = events;
+        eventCursors[h] = 0;
+    }
+
+    // Offset do próximo pedido de E/S ainda não feito, ou -1 se não houver
+    public int getNextIoOffset(int h) {
+        if (eventLists == null || eventLists[h] == null) return -1;
+        List<Event> events = eventLists[h];
+        int next = eventCursors[h];
+        return next < events.size() ? events.get(next).getOffset() : -1;
+    }
+
+    // O processo chegou ao offset do próximo pedido de E/S sem ter terminado
+    public boolean isIoDue(int h) {
+        return states[h] != TERMINATED && getNextIoOffset(h) == runTimes[h];
+    }
+
+    // Pedido de E/S devido agora e avança para o próximo; null se não houver
+    public Event takeDueEvent(int h) {
+        if (!isIoDue(h)) return null;
+        return eventLists[h].get(eventCursors[h]++);
+    }
+
+    public static String stateName(byte state) {
+        return STATE_NAMES[state];
+    }
+
+    public static byte stateCode(String name) {
+        for (int i = 0; i < STATE_NAMES.length; i++) {
+            if (STATE_NAMES[i].equals(name)) return (byte) i;
+        }
+        throw new IllegalArgumentException("Estado de processo desconhecido: " + name);
+    }
+
+    // Roda um tick de execução
+    public void executeTick(int h) {
+        executeTicks(h, 1);
+    }
+
+    // Roda vários ticks de execução de uma vez (modo orientado a eventos)
+    public void executeTicks(int h, int ticks) {
+        if (states[h] != TERMINATED && ticks > 0) {
+            runTimes[h] = Math.min(durations[h], runTimes[h] + ticks);
+            states[h] = runTimes[h] >= durations[h] ? TERMINATED : RUNNING;
+        }
+    }
+
+    // Roda um tick de espera
+    public void waitTick(int h) {
+        if (states[h] != TERMINATED) {
+            waitTimes[h]++;
+            states[h] = WAITING;
+        }
+    }
+
+    // Marca o tick em que o processo entrou na fila de prontos
+    public void markReady(int h, int time) {
+        if (states[h] != TERMINATED) {
+            readySince[h] = time;
+            states[h] = READY;
+        }
+    }
+
+    // Processo saiu da CPU esperando um dispositivo: não está pronto nem conta espera
+    public void markBlocked(int h) {
+        readySince[h] = -1;
+        states[h] = WAITING;
+    }
+
+    // Processo escolhido no tick time: soma a espera acumulada desde markReady
+    public void markDispatched(int h, int time) {
+        if (readySince[h] >= 0) {
+            waitTimes[h] += time - readySince[h];
+            readySince[h] = -1;
+        }
+        states[h] = RUNNING;
+    }
+
+    // Soma a espera em aberto até time sem tirar o processo da fila (ex.: fim antecipado)
+    public void flushWait(int h, int time) {
+        if (readySince[h] >= 0 && states[h] != TERMINATED) {
+            waitTimes[h] += time - readySince[h];
+            readySince[h] = time;
+        }
+    }
+
+    // Reseta o estado de execução de um processo
+    public void reset(int h) {
+        runTimes[h] = 0;
+        waitTimes[h] = 0;
+        readySince[h] = -1;
+        states[h] = NEW;
+        if (eventCursors != null) {
+            eventCursors[h] = 0;
+        }
+    }
+
+    /**
+     * Handles ordenados por chegada: startTime, depois id e por fim a ordem na tabela.
+     * Ordena chaves long (startTime, handle) e só compara ids dentro de empates de startTime.
+     */
+    public int[] arrivalOrder() {
+        long[] keys = new long[size];
+        for (int h = 0; h < size; h++) {
+            keys[h] = ((long) startTimes[h] << 32) | h;
+        }
+        Arrays.sort(keys);
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = (int) keys[i];
+        }
+        // Desempate por id dentro de cada grupo com o mesmo startTime (ordenação estável)
+        int i = 0;
+        while (i < size) {
+            int j = i + 1;
+            while (j < size && startTimes[order[j]] == startTimes[order[i]]) j++;
+            if (j - i > 1) {
+                sortByIdStable(order, i, j);
+            }
+            i = j;
+        }
+        return order;
+    }
+
+    private void sortByIdStable(int[] order, int from, int to) {
+        if (to - from > 32) {
+            // Grupos grandes: TimSort (estável) sobre os handles
+            Integer[] group = new Integer[to - from];
+            for (int i = from; i < to; i++) group[i - from] = order[i];
+            Arrays.sort(group, (a, b) -> compareIds(a, b));
+            for (int i = from; i < to; i++) order[i] = group[i - from];
+            return;
+        }
+        // Inserção: grupos com o mesmo startTime costumam ser pequenos
+        for (int i = from + 1; i < to; i++) {
+            int h = order[i];
+            int j = i - 1;
+            while (j >= from && compareIds(order[j], h) > 0) {
+                order[j + 1] = order[j];
+                j--;
+            }
+            order[j + 1] = h;
+        }
+    }
+
+    // Compara ids para desempate (ids nulos ficam por último)
+    public int compareIds(int a, int b) {
+        String id1 = ids[a];
+        String id2 = ids[b];
+        if (id1 == null) return id2 == null ? 0 : 1;
+        if (id2 == null) return -1;
+        return id1.compareTo(id2);
+    }
+
+    /**
+     * Visão Process de uma linha da tabela.
+     */
+    public Process view(int h) {
+        return new Process(this, h);
+    }
+
+    /**
+     * Lista de visões Process sobre a tabela. add() copia o processo para a tabela
+     * e passa a apontá-lo para a nova linha.
+     */
+    public List<Process> asList() {
+        return new AbstractList<Process>() {
+            @Override
+            public Process get(int index) {
+                if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: " + index);
+                return view(index);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public boolean add(Process p) {
+                p.moveTo(ProcessTable.this);
+                return true;
+            }
+
+            @Override
+            public void clear() {
+                ProcessTable.this.clear();
+            }
+        };
+    }
+
+    /**
+     * Escreve todas as linhas (atributos, estado, eventos de E/S e linhas livres) no checkpoint.
+     */
+    public void writeState(StateWriter out) throws IOException {
+        out.writeInt(size);
+        for (int h = 0; h < size; h++) {
+            out.writeId(ids[h]);
+            out.writeInt(colors[h]);
+            out.writeInt(startTimes[h]);
+            out.writeInt(durations[h]);
+            out.writeInt(priorities[h]);
+            out.writeInt(runTimes[h]);
+            out.writeInt(waitTimes[h]);
+            out.writeInt(readySince[h]);
+            out.writeInt(states[h]);
+            List<Event> events = getEventList(h);
+            int eventCount = events != null ? events.size() : 0;
+            out.writeInt(eventCount);
+            if (eventCount > 0) {
+                for (Event e : events) {
+                    out.writeString(e.getDevice());
+                    out.writeInt(e.getOffset());
+                    out.writeInt(e.getDuration());
+                }
+                out.writeInt(eventCursors[h]);
+            }
+        }
+        out.writeInts(freeHandles, freeCount);
+    }
+
+    /**
+     * Substitui o conteúdo da tabela pelo estado lido do checkpoint. Os handles são os mesmos
+     * da execução original.
+     */
+    public void readState(StateReader in) throws IOException {
+        clear();
+        eventLists = null;
+        eventCursors = null;
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Tabela de processos inválida no checkpoint.");
+        }
+        if (count > ids.length) {
+            grow(count);
+        }
+        for (int h = 0; h < count; h++) {
+            size = h + 1;
+            ids[h] = in.readId();
+            colors[h] = in.readInt();
+            startTimes[h] = in.readInt();
+            durations[h] = in.readInt();
+            priorities[h] = in.readInt();
+            runTimes[h] = in.readInt();
+            waitTimes[h] = in.readInt();
+            readySince[h] = in.readInt();
+            states[h] = (byte) in.readInt();
+            int eventCount = in.readInt();
+            if (eventCount > 0) {
+                List<Event> events = new ArrayList<>(eventCount);
+                for (int i = 0; i < eventCount; i++) {
+                    events.add(new Event(in.readString(), in.readInt(), in.readInt()));
+                }
+                setEventList(h, events);
+                eventCursors[h] = in.readInt();
+            }
+        }
+        freeHandles = in.readInts();
+        freeCount = freeHandles.length;
+    }
+
+    public void clear() {
+        Arrays.fill(ids, 0, size, null);
+        if (eventLists != null) {
+            Arrays.fill(eventLists, 0, size, null);
+        }
+        size = 0;
+        freeCount = 0;
+    }
+}
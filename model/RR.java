@@ -0,0 +1,85 @@
+package model;
+
+import java.io.IOException;
+import java.util.List;
+
+public class RR implements Scheduler {
+    // Round Robin: fila circular de prontos; quem esgota o quantum volta para o fim da fila.
+    // Chegada, preempção e escolha são O(1).
+    private final HandleDeque readyQueue = new HandleDeque();
+
+    @Override
+    public Process nextProcess(List<Process> processes, int currentTime) {
+        // Sem estado não há como saber de quem é a vez: escolhe o que chegou primeiro (como o FIFO).
+        if (processes == null || processes.isEmpty()) {
+            return null;
+        }
+        Process chosen = null;
+        for (Process p : processes) {
+            if (p == null || p.isCompleted() || p.getStartTime() > currentTime) continue;
+            if (chosen == null || p.getStartTime() < chosen.getStartTime()
+                    || (p.getStartTime() == chosen.getStartTime() && p.getId() != null && chosen.getId() != null
+                        && p.getId().compareTo(chosen.getId()) < 0)) {
+                chosen = p;
+            }
+        }
+        return chosen;
+    }
+
+    @Override
+    public void bind(ProcessTable table) {
+        readyQueue.clear();
+    }
+
+    @Override
+    public void onArrival(int handle) {
+        readyQueue.addLast(handle);
+    }
+
+    @Override
+    public void onPreempt(int handle) {
+        // Diferente do FIFO: o processo interrompido vai para o fim da fila.
+        readyQueue.addLast(handle);
+    }
+
+    @Override
+    public void onComplete(int handle) {
+        // Nada a fazer: o processo em execução não está na fila.
+    }
+
+    @Override
+    public int pickNext(int currentTime) {
+        return readyQueue.pollFirst();
+    }
+
+    @Override
+    public boolean supportsMigration() {
+        // Sem estado além da ordem da fila: o migrado entra no fim da fila de destino
+        return true;
+    }
+
+    @Override
+    public int readyCount() {
+        return readyQueue.size();
+    }
+
+    @Override
+    public boolean supportsCheckpoint() {
+        return true;
+    }
+
+    @Override
+    public void writeState(StateWriter out) throws IOException {
+        readyQueue.writeState(out);
+    }
+
+    @Override
+    public void readState(StateReader in) throws IOException {
+        readyQueue.readState(in);
+    }
+
+    @Override
+    public String getName() {
+        return "RR";
+    }
+}
@@ -0,0 +1,149 @@
+package model;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * ReadyLevels - Filas de prontos por nível (até 64), com um bitmap dos níveis não vazios.
+ * O próximo processo está no nível mais baixo com bit ligado, achado com um find-first-set
+ * (Long.numberOfTrailingZeros), como no escalonador O(1) do Linux: inserir e escolher custam
+ * O(1) qualquer que seja o número de processos. Cada fila é uma lista encadeada pelos próprios
+ * handles (um handle está em no máximo uma fila), então emendar um nível inteiro no fim de
+ * outro (moveAll) também é O(1).
+ */
+public class ReadyLevels {
+    public static final int MAX_LEVELS = 64;
+
+    private final int[] heads;
+    private final int[] tails;
+    private final int[] sizes;
+    // Próximo handle na fila do seu nível (NONE no último)
+    private int[] next = new int[16];
+    private long nonEmpty;
+    private int size;
+
+    public ReadyLevels(int levels) {
+        if (levels < 1 || levels > MAX_LEVELS) {
+            throw new IllegalArgumentException("Número de níveis inválido: " + levels);
+        }
+        heads = new int[levels];
+        tails = new int[levels];
+        sizes = new int[levels];
+        clear();
+    }
+
+    public void addLast(int level, int handle) {
+        ensure(handle);
+        next[handle] = ProcessTable.NONE;
+        if (tails[level] == ProcessTable.NONE) {
+            heads[level] = handle;
+        } else {
+            next[tails[level]] = handle;
+        }
+        tails[level] = handle;
+        added(level);
+    }
+
+    public void addFirst(int level, int handle) {
+        ensure(handle);
+        next[handle] = heads[level];
+        heads[level] = handle;
+        if (tails[level] == ProcessTable.NONE) {
+            tails[level] = handle;
+        }
+        added(level);
+    }
+
+    // Remove e retorna o primeiro do nível mais alto (menor índice) não vazio, ou NONE
+    public int pollFirst() {
+        if (nonEmpty == 0) return ProcessTable.NONE;
+        return pollFirst(Long.numberOfTrailingZeros(nonEmpty));
+    }
+
+    public int pollFirst(int level) {
+        int handle = heads[level];
+        if (handle == ProcessTable.NONE) return handle;
+        heads[level] = next[handle];
+        if (heads[level] == ProcessTable.NONE) {
+            tails[level] = ProcessTable.NONE;
+            nonEmpty &= ~(1L << level);
+        }
+        sizes[level]--;
+        size--;
+        return handle;
+    }
+
+    /**
+     * Emenda a fila inteira do nível from no fim da fila do nível to, na mesma ordem.
+     */
+    public void moveAll(int from, int to) {
+        if (from == to || sizes[from] == 0) return;
+        if (tails[to] == ProcessTable.NONE) {
+            heads[to] = heads[from];
+        } else {
+            next[tails[to]] = heads[from];
+        }
+        tails[to] = tails[from];
+        sizes[to] += sizes[from];
+        heads[from] = ProcessTable.NONE;
+        tails[from] = ProcessTable.NONE;
+        sizes[from] = 0;
+        nonEmpty = (nonEmpty & ~(1L << from)) | (1L << to);
+    }
+
+    // Nível mais alto com processos, ou -1
+    public int firstLevel() {
+        return nonEmpty != 0 ? Long.numberOfTrailingZeros(nonEmpty) : -1;
+    }
+
+    public int levelSize(int level) { return sizes[level]; }
+
+    public int getLevels() { return heads.length; }
+
+    public int size() { return size; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    public void clear() {
+        Arrays.fill(heads, ProcessTable.NONE);
+        Arrays.fill(tails, ProcessTable.NONE);
+        Arrays.fill(sizes, 0);
+        nonEmpty = 0;
+        size = 0;
+    }
+
+    // Checkpoint: cada nível em ordem
+    public void writeState(StateWriter out) throws IOException {
+        out.writeInt(heads.length);
+        for (int level = 0; level < heads.length; level++) {
+            out.writeInt(sizes[level]);
+            for (int h = heads[level]; h != ProcessTable.NONE; h = next[h]) {
+                out.writeInt(h);
+            }
+        }
+    }
+
+    public void readState(StateReader in) throws IOException {
+        if (in.readInt() != heads.length) {
+            throw new IOException("Número de níveis diferente no checkpoint.");
+        }
+        clear();
+        for (int level = 0; level < heads.length; level++) {
+            for (int i = in.readInt(); i > 0; i--) {
+                addLast(level, in.readInt());
+            }
+        }
+    }
+
+    private void added(int level) {
+        sizes[level]++;
+        nonEmpty |= 1L << level;
+        size++;
+    }
+
+    private void ensure(int handle) {
+        if (handle >= next.length) {
+            next = Arrays.copyOf(next, Math.max(handle + 1, next.length * 2));
+        }
+    }
+}
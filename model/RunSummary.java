@@ -0,0 +1,61 @@
+package model;
+
+/**
+ * RunSummary - Totais de uma execução (do SimController ou do replay de um rastro binário).
+ */
+public class RunSummary {
+    private final String algorithm;
+    private final int quantum;
+    private final int finalTime;
+    private final long processes;
+    private final long completed;
+    private final long contextSwitches;
+    private final long totalWait;
+    private final long totalTurnaround;
+    // Distribuições de resposta, espera e turnaround (null se a execução não as tem)
+    private final SchedulingStats stats;
+
+    public RunSummary(String algorithm, int quantum, int finalTime, long processes, long completed,
+                      long contextSwitches, long totalWait, long totalTurnaround) {
+        this(algorithm, quantum, finalTime, processes, completed, contextSwitches, totalWait, totalTurnaround, null);
+    }
+
+    public RunSummary(String algorithm, int quantum, int finalTime, long processes, long completed,
+                      long contextSwitches, long totalWait, long totalTurnaround, SchedulingStats stats) {
+        this.algorithm = algorithm;
+        this.quantum = quantum;
+        this.finalTime = finalTime;
+        this.processes = processes;
+        this.completed = completed;
+        this.contextSwitches = contextSwitches;
+        this.totalWait = totalWait;
+        this.totalTurnaround = totalTurnaround;
+        this.stats = stats;
+    }
+
+    public String getAlgorithm() { return algorithm; }
+    public int getQuantum() { return quantum; }
+    public int getFinalTime() { return finalTime; }
+    public long getProcesses() { return processes; }
+    public long getCompleted() { return completed; }
+    public long getContextSwitches() { return contextSwitches; }
+    public long getTotalWait() { return totalWait; }
+    public long getTotalTurnaround() { return totalTurnaround; }
+    public SchedulingStats getStats() { return stats; }
+
+    // Médias sobre os processos concluídos
+    public double getAvgWait() {
+        return completed > 0 ? totalWait / (double) completed : 0.0;
+    }
+
+    public double getAvgTurnaround() {
+        return completed > 0 ? totalTurnaround / (double) completed : 0.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(java.util.Locale.ROOT,
+                "%s q=%d: t=%d, processos=%d, concluídos=%d, trocas=%d, espera média=%.2f, turnaround médio=%.2f",
+                algorithm, quantum, finalTime, processes, completed, contextSwitches, getAvgWait(), getAvgTurnaround());
+    }
+}
@@ -0,0 +1,223 @@
+package model;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * ScheduleTraceReader - Lê um rastro gravado pelo ScheduleTraceWriter e o reproduz:
+ * reconstrói o Gantt (se informado) e os totais da execução sem rodar o escalonador.
+ */
+public class ScheduleTraceReader implements Closeable {
+    private final InputStream in;
+    private final byte[] buffer = new byte[1 << 16];
+    private int pos;
+    private int limit;
+
+    private final String algorithm;
+    private final int quantum;
+
+    public ScheduleTraceReader(InputStream in) throws IOException {
+        this.in = in;
+        for (byte b : ScheduleTraceWriter.MAGIC) {
+            if (readByte() != b) {
+                throw new IOException("Arquivo não é um rastro de escalonamento.");
+            }
+        }
+        int version = readByte();
+        if (version < 1 || version > ScheduleTraceWriter.VERSION) {
+            throw new IOException("Versão de rastro não suportada: " + version);
+        }
+        this.algorithm = readString();
+        this.quantum = (int) unzigzag(readVarint());
+    }
+
+    public static ScheduleTraceReader open(String path) throws IOException {
+        return new ScheduleTraceReader(new FileInputStream(path));
+    }
+
+    public String getAlgorithm() { return algorithm; }
+
+    public int getQuantum() { return quantum; }
+
+    /**
+     * Reproduz o rastro inteiro. Com gantt != null, registra nele os mesmos intervalos
+     * que a execução original registrou.
+     */
+    public RunSummary replay(GanttChart gantt) throws IOException {
+        // Estado por handle (handles são reaproveitados a cada nova chegada)
+        String[] ids = new String[16];
+        int[] startTimes = new int[16];
+        int[] arrivalTimes = new int[16];
+        int[] durations = new int[16];
+        int[] blockedSince = new int[16];
+        int[] ioTimes = new int[16];
+        int[] priorities = new int[16];
+        boolean[] dispatched = new boolean[16];
+        SchedulingStats stats = new SchedulingStats();
+
+        long processes = 0, completed = 0, switches = 0, totalWait = 0, totalTurnaround = 0;
+        int running = ProcessTable.NONE;
+        int runningSince = 0;
+        int time = 0;
+        String lastId = "";
+
+        while (true) {
+            int tag = readByte();
+            if (tag < 0) {
+                throw new EOFException("Rastro terminou sem o registro final.");
+            }
+            time += (int) unzigzag(readVarint());
+            switch (tag) {
+                case ScheduleTraceWriter.ARRIVAL: {
+                    int h = (int) readVarint();
+                    if (h >= ids.length) {
+                        int capacity = Math.max(h + 1, ids.length * 2);
+                        ids = Arrays.copyOf(ids, capacity);
+                        startTimes = Arrays.copyOf(startTimes, capacity);
+                        arrivalTimes = Arrays.copyOf(arrivalTimes, capacity);
+                        durations = Arrays.copyOf(durations, capacity);
+                        blockedSince = Arrays.copyOf(blockedSince, capacity);
+                        ioTimes = Arrays.copyOf(ioTimes, capacity);
+                        priorities = Arrays.copyOf(priorities, capacity);
+                        dispatched = Arrays.copyOf(dispatched, capacity);
+                    }
+                    int prefix = (int) readVarint();
+                    lastId = lastId.substring(0, prefix) + readString();
+                    ids[h] = lastId;
+                    startTimes[h] = time - (int) unzigzag(readVarint());
+                    arrivalTimes[h] = time;
+                    durations[h] = (int) unzigzag(readVarint());
+                    ioTimes[h] = 0;
+                    priorities[h] = (int) unzigzag(readVarint());
+                    dispatched[h] = false;
+                    processes++;
+                    break;
+                }
+                case ScheduleTraceWriter.DISPATCH:
+                    running = (int) readVarint();
+                    runningSince = time;
+                    switches++;
+                    if (!dispatched[running]) {
+                        dispatched[running] = true;
+                        stats.recordResponse(priorities[running], time - startTimes[running]);
+                    }
+                    break;
+                case ScheduleTraceWriter.PREEMPT: {
+                    int h = (int) readVarint();
+                    if (gantt != null) gantt.recordExecution(h, ids[h], runningSince, time);
+                    running = ProcessTable.NONE;
+                    break;
+                }
+                case ScheduleTraceWriter.COMPLETE: {
+                    int h = (int) readVarint();
+                    if (h == running) {
+                        if (gantt != null) {
+                            gantt.recordExecution(h, ids[h], runningSince, time);
+                            gantt.finishProcess(h);
+                        }
+                        running = ProcessTable.NONE;
+                    } else if (!dispatched[h]) {
+                        // Duração 0: termina ao chegar, sem despacho
+                        dispatched[h] = true;
+                        stats.recordResponse(priorities[h], time - startTimes[h]);
+                    }
+                    // Entre a entrega e o fim o processo esteve pronto, executando ou em E/S
+                    int wait = time - arrivalTimes[h] - durations[h] - ioTimes[h];
+                    totalWait += wait;
+                    totalTurnaround += time - startTimes[h];
+                    stats.recordCompletion(priorities[h], time - startTimes[h], wait);
+                    completed++;
+                    break;
+                }
+                case ScheduleTraceWriter.BLOCK: {
+                    int h = (int) readVarint();
+                    if (h == running) {
+                        if (gantt != null) gantt.recordExecution(h, ids[h], runningSince, time);
+                        running = ProcessTable.NONE;
+                    }
+                    blockedSince[h] = time;
+                    break;
+                }
+                case ScheduleTraceWriter.WAKE: {
+                    int h = (int) readVarint();
+                    ioTimes[h] += time - blockedSince[h];
+                    break;
+                }
+                case ScheduleTraceWriter.IDLE:
+                    running = ProcessTable.NONE;
+                    break;
+                case ScheduleTraceWriter.END:
+                    if (running != ProcessTable.NONE && gantt != null) {
+                        gantt.recordExecution(running, ids[running], runningSince, time);
+                    }
+                    return new RunSummary(algorithm, quantum, time, processes, completed,
+                            switches, totalWait, totalTurnaround, stats);
+                default:
+                    throw new IOException("Registro de rastro inválido: " + tag);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private int readByte() throws IOException {
+        if (pos == limit) {
+            limit = in.read(buffer, 0, buffer.length);
+            pos = 0;
+            if (limit <= 0) {
+                limit = 0;
+                return -1;
+            }
+        }
+        return buffer[pos++] & 0xFF;
+    }
+
+    private long readVarint() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            if (b < 0) {
+                throw new EOFException("Rastro truncado.");
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Varint inválido no rastro.");
+    }
+
+    private static long unzigzag(long v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    private String readString() throws IOException {
+        int length = (int) readVarint();
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            int b = readByte();
+            if (b < 0) throw new EOFException("Rastro truncado.");
+            bytes[i] = (byte) b;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public static void main(String[] args) throws IOException {
+        // Uso: ScheduleTraceReader <rastro.bin> [gantt.svg]
+        long start = System.nanoTime();
+        try (ScheduleTraceReader reader = open(args[0])) {
+            GanttChart gantt = args.length > 1 ? new GanttChart() : null;
+            RunSummary summary = reader.replay(gantt);
+            System.out.println(summary);
+            System.out.print(summary.getStats().formatTable());
+            if (gantt != null) gantt.generateChart(args[1]);
+        }
+        System.out.println("Replay em " + (System.nanoTime() - start) / 1_000_000 + " ms");
+    }
+}
@@ -0,0 +1,176 @@
+package model;
+
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * ScheduleTraceWriter - Rastro binário do escalonamento (chegada, despacho, preempção,
+ * término, E/S e ociosidade), para arquivar execuções e reproduzi-las sem o escalonador.
+ *
+ * Formato: cabeçalho "SCHT", versão, algoritmo e quantum; depois registros com uma tag
+ * de 1 byte e o delta de tempo em varint (zigzag). Processos são referenciados pelo handle
+ * da ProcessTable; o id de cada processo aparece uma única vez, no registro de chegada,
+ * que associa o handle ao id até a próxima chegada com o mesmo handle. Os ids formam uma
+ * tabela de strings com codificação de prefixo: cada um guarda só o tamanho do prefixo
+ * comum com o id anterior e o restante.
+ */
+public class ScheduleTraceWriter implements Closeable {
+    static final byte[] MAGIC = {'S', 'C', 'H', 'T'};
+    static final int VERSION = 2;
+
+    // Tags dos registros
+    static final int ARRIVAL = 1;   // handle, id, atraso da entrega em relação ao ingresso, duração, prioridade
+    static final int DISPATCH = 2;  // handle
+    static final int PREEMPT = 3;   // handle
+    static final int COMPLETE = 4;  // handle (tempo = fim exclusivo)
+    static final int IDLE = 5;
+    static final int END = 6;       // tempo final da simulação
+    static final int BLOCK = 7;     // handle (tempo = pedido de E/S; fim do intervalo se estava executando)
+    static final int WAKE = 8;      // handle (E/S terminou, processo pronto de novo)
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[1 << 16];
+    private int count;
+    private int lastTime;
+    private String lastId = "";
+
+    public ScheduleTraceWriter(OutputStream out, String algorithm, int quantum) {
+        this.out = out;
+        writeBytes(MAGIC);
+        writeByte(VERSION);
+        writeString(algorithm != null ? algorithm : "");
+        writeVarint(zigzag(quantum));
+    }
+
+    public static ScheduleTraceWriter open(String path, String algorithm, int quantum) throws IOException {
+        return new ScheduleTraceWriter(new FileOutputStream(path), algorithm, quantum);
+    }
+
+    public void arrival(int time, int handle, String id, int startTime, int duration, int priority) {
+        header(ARRIVAL, time);
+        writeVarint(handle);
+        writeId(id != null ? id : "");
+        writeVarint(zigzag(time - startTime));
+        writeVarint(zigzag(duration));
+        writeVarint(zigzag(priority));
+    }
+
+    public void dispatch(int time, int handle) {
+        header(DISPATCH, time);
+        writeVarint(handle);
+    }
+
+    public void preempt(int time, int handle) {
+        header(PREEMPT, time);
+        writeVarint(handle);
+    }
+
+    public void complete(int endTime, int handle) {
+        header(COMPLETE, endTime);
+        writeVarint(handle);
+    }
+
+    public void block(int time, int handle) {
+        header(BLOCK, time);
+        writeVarint(handle);
+    }
+
+    public void wake(int time, int handle) {
+        header(WAKE, time);
+        writeVarint(handle);
+    }
+
+    public void idle(int time) {
+        header(IDLE, time);
+    }
+
+    // Fecha o rastro da execução (o processo em execução, se houver, para em finalTime)
+    public void end(int finalTime) {
+        header(END, finalTime);
+        flush();
+    }
+
+    public void flush() {
+        try {
+            out.write(buffer, 0, count);
+            count = 0;
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        out.close();
+    }
+
+    private void header(int tag, int time) {
+        writeByte(tag);
+        writeVarint(zigzag(time - lastTime));
+        lastTime = time;
+    }
+
+    private static long zigzag(long v) {
+        return (v << 1) ^ (v >> 63);
+    }
+
+    private void writeVarint(long v) {
+        if (count + 10 > buffer.length) drain();
+        while ((v & ~0x7FL) != 0) {
+            buffer[count++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        buffer[count++] = (byte) v;
+    }
+
+    private void writeByte(int b) {
+        if (count == buffer.length) drain();
+        buffer[count++] = (byte) b;
+    }
+
+    private void writeId(String id) {
+        int prefix = 0;
+        int max = Math.min(id.length(), lastId.length());
+        while (prefix < max && id.charAt(prefix) == lastId.charAt(prefix)) prefix++;
+        // Não separa um par de surrogates
+        if (prefix > 0 && Character.isHighSurrogate(id.charAt(prefix - 1))) prefix--;
+        writeVarint(prefix);
+        writeString(id.substring(prefix));
+        lastId = id;
+    }
+
+    private void writeString(String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        writeVarint(bytes.length);
+        writeBytes(bytes);
+    }
+
+    private void writeBytes(byte[] bytes) {
+        if (count + bytes.length > buffer.length) drain();
+        if (bytes.length > buffer.length) {
+            try {
+                out.write(bytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return;
+        }
+        System.arraycopy(bytes, 0, buffer, count, bytes.length);
+        count += bytes.length;
+    }
+
+    private void drain() {
+        try {
+            out.write(buffer, 0, count);
+            count = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
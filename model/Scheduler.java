@@ -1,9 +1,85 @@
 package model;
 
+import java.io.IOException;
 import java.util.List;
 
 public interface Scheduler {
     // Serve apenas de interface para os algoritmos.
     Process nextProcess(List<Process> processes, int currentTime);
     String getName();
+
+    // API com estado: o escalonador mantém sua própria fila de prontos indexada,
+    // e o controlador apenas notifica as transições de cada processo (por handle).
+
+    // Associa o escalonador à tabela de processos da simulação (antes de qualquer evento).
+    void bind(ProcessTable table);
+
+    // Processo chegou (ou voltou) e está pronto para executar.
+    void onArrival(int handle);
+
+    // Processo em execução foi interrompido e volta para a fila de prontos.
+    void onPreempt(int handle);
+
+    // Processo terminou; não deve mais ser escolhido.
+    void onComplete(int handle);
+
+    // Remove e retorna o próximo processo da fila de prontos (ou ProcessTable.NONE se vazia).
+    int pickNext(int currentTime);
+
+    // Número de processos na fila de prontos (para métricas).
+    int readyCount();
+
+    // Quantum do processo recém-escolhido (ex.: o do seu nível no MLFQ); por padrão, o da configuração.
+    default int quantumFor(int handle, int defaultQuantum) {
+        return defaultQuantum;
+    }
+
+    // Se true, o controlador consulta shouldPreempt a cada processo que fica pronto
+    // (e não executa de uma vez além da próxima chegada ou fim de E/S).
+    default boolean preemptsOnWakeup() {
+        return false;
+    }
+
+    // Processo woken ficou pronto enquanto running executa: true para tirar running da CPU já.
+    default boolean shouldPreempt(int running, int woken) {
+        return false;
+    }
+
+    // Migração entre CPUs (uma instância do escalonador por CPU). Se false, o controlador
+    // não move processos entre filas: o estado interno não sobreviveria à troca.
+    default boolean supportsMigration() {
+        return false;
+    }
+
+    // Remove da fila o próximo processo a migrar (ou ProcessTable.NONE se vazia), sem tratá-lo
+    // como escolhido para executar. Por padrão, o primeiro da fila.
+    default int migrateOut(int currentTime) {
+        return pickNext(currentTime);
+    }
+
+    // Estado do processo recém-removido por migrateOut a levar para a outra fila
+    // (ex.: o nível no MLFQ ou o vruntime relativo no CFS).
+    default long migrationState(int handle) {
+        return 0L;
+    }
+
+    // Processo migrado de outra instância, com o estado de migrationState, entra na fila
+    // sem ser tratado como chegada. Por padrão, entra como chegada.
+    default void migrateIn(int handle, long state) {
+        onArrival(handle);
+    }
+
+    // Checkpoint: fila de prontos e estado interno. readState é chamado depois de bind(),
+    // com a tabela já restaurada. Só quem retorna true em supportsCheckpoint os implementa.
+    default boolean supportsCheckpoint() {
+        return false;
+    }
+
+    default void writeState(StateWriter out) throws IOException {
+        throw new UnsupportedOperationException("Escalonador não suporta checkpoint: " + getName());
+    }
+
+    default void readState(StateReader in) throws IOException {
+        throw new UnsupportedOperationException("Escalonador não suporta checkpoint: " + getName());
+    }
 }
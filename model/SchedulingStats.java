@@ -0,0 +1,203 @@
+package model;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * SchedulingStats - Distribuições de resposta (primeiro despacho - ingresso), espera e
+ * turnaround, no total e por prioridade, atualizadas processo a processo. Cada distribuição
+ * é um LogHistogram (memória fixa, quantis com erro relativo abaixo de ~3%), então milhões
+ * de processos custam o mesmo que mil; só cada prioridade nova acrescenta três histogramas.
+ * Uma thread grava por instância; com várias CPUs cada uma tem a sua e add() junta no fim.
+ */
+public class SchedulingStats {
+    // Prioridades 0..DIRECT-1 ficam num array (sem boxing); as demais num mapa
+    private static final int DIRECT = 256;
+
+    private final Group overall = new Group();
+    private final Group[] direct = new Group[DIRECT];
+    private final Map<Integer, Group> others = new HashMap<>();
+
+    /**
+     * Primeiro despacho de um processo: response = tick do despacho - ingresso.
+     */
+    public void recordResponse(int priority, long response) {
+        overall.response.record(response);
+        groupOf(priority).response.record(response);
+    }
+
+    /**
+     * Término de um processo, com o turnaround e a espera total na fila de prontos.
+     */
+    public void recordCompletion(int priority, long turnaround, long waiting) {
+        overall.turnaround.record(turnaround);
+        overall.waiting.record(waiting);
+        Group g = groupOf(priority);
+        g.turnaround.record(turnaround);
+        g.waiting.record(waiting);
+    }
+
+    // Soma as distribuições de outra instância (ex.: uma por CPU)
+    public void add(SchedulingStats other) {
+        overall.add(other.overall);
+        for (Map.Entry<Integer, Group> e : other.groups().entrySet()) {
+            groupOf(e.getKey()).add(e.getValue());
+        }
+    }
+
+    public LogHistogram getResponse() { return overall.response; }
+    public LogHistogram getWaiting() { return overall.waiting; }
+    public LogHistogram getTurnaround() { return overall.turnaround; }
+
+    // Por prioridade (null se nenhum processo dessa prioridade foi despachado)
+    public LogHistogram getResponse(int priority) {
+        Group g = find(priority);
+        return g != null ? g.response : null;
+    }
+
+    public LogHistogram getWaiting(int priority) {
+        Group g = find(priority);
+        return g != null ? g.waiting : null;
+    }
+
+    public LogHistogram getTurnaround(int priority) {
+        Group g = find(priority);
+        return g != null ? g.turnaround : null;
+    }
+
+    // Prioridades vistas, em ordem crescente
+    public int[] getPriorities() {
+        TreeMap<Integer, Group> groups = groups();
+        int[] priorities = new int[groups.size()];
+        int i = 0;
+        for (int priority : groups.keySet()) {
+            priorities[i++] = priority;
+        }
+        return priorities;
+    }
+
+    /**
+     * Tabela de texto: uma linha por prioridade e a linha do total, com p50, p99 e p999
+     * de resposta, espera e turnaround (em ticks).
+     */
+    public String formatTable() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-6s %9s | %-26s | %-26s | %s%n", "Prio", "Concl.",
+                "Resposta p50/p99/p999", "Espera p50/p99/p999", "Turnaround p50/p99/p999"));
+        for (Map.Entry<Integer, Group> e : groups().entrySet()) {
+            appendRow(sb, String.valueOf(e.getKey()), e.getValue());
+        }
+        appendRow(sb, "Total", overall);
+        return sb.toString();
+    }
+
+    private static void appendRow(StringBuilder sb, String name, Group g) {
+        sb.append(String.format(Locale.ROOT, "%-6s %9d | %-26s | %-26s | %s%n", name, g.turnaround.getCount(),
+                quantiles(g.response), quantiles(g.waiting), quantiles(g.turnaround)));
+    }
+
+    private static String quantiles(LogHistogram h) {
+        return h.getQuantile(0.50) + " / " + h.getQuantile(0.99) + " / " + h.getQuantile(0.999);
+    }
+
+    // Resumo em JSON: o total e cada prioridade, com os quantis de LogHistogram
+    public String toJson() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\"overall\":");
+        overall.appendJson(sb);
+        sb.append(",\"byPriority\":{");
+        boolean first = true;
+        for (Map.Entry<Integer, Group> e : groups().entrySet()) {
+            if (!first) sb.append(',');
+            first = false;
+            sb.append('"').append(e.getKey()).append("\":");
+            e.getValue().appendJson(sb);
+        }
+        sb.append("}}\n");
+        return sb.toString();
+    }
+
+    public void writeState(StateWriter out) throws IOException {
+        overall.writeState(out);
+        Map<Integer, Group> groups = groups();
+        out.writeInt(groups.size());
+        for (Map.Entry<Integer, Group> e : groups.entrySet()) {
+            out.writeInt(e.getKey());
+            e.getValue().writeState(out);
+        }
+    }
+
+    public void readState(StateReader in) throws IOException {
+        Arrays.fill(direct, null);
+        others.clear();
+        overall.readState(in);
+        int n = in.readInt();
+        for (int i = 0; i < n; i++) {
+            groupOf(in.readInt()).readState(in);
+        }
+    }
+
+    private Group groupOf(int priority) {
+        if (priority >= 0 && priority < DIRECT) {
+            Group g = direct[priority];
+            if (g == null) {
+                g = new Group();
+                direct[priority] = g;
+            }
+            return g;
+        }
+        return others.computeIfAbsent(priority, p -> new Group());
+    }
+
+    private Group find(int priority) {
+        return priority >= 0 && priority < DIRECT ? direct[priority] : others.get(priority);
+    }
+
+    // Todas as prioridades em ordem (só para leitura e relatórios)
+    private TreeMap<Integer, Group> groups() {
+        TreeMap<Integer, Group> all = new TreeMap<>(others);
+        for (int p = 0; p < DIRECT; p++) {
+            if (direct[p] != null) all.put(p, direct[p]);
+        }
+        return all;
+    }
+
+    // As três distribuições de uma classe
+    private static final class Group {
+        final LogHistogram response = new LogHistogram();
+        final LogHistogram waiting = new LogHistogram();
+        final LogHistogram turnaround = new LogHistogram();
+
+        void add(Group other) {
+            response.add(other.response);
+            waiting.add(other.waiting);
+            turnaround.add(other.turnaround);
+        }
+
+        void appendJson(StringBuilder sb) {
+            sb.append("{\"response\":");
+            response.appendJson(sb);
+            sb.append(",\"waiting\":");
+            waiting.appendJson(sb);
+            sb.append(",\"turnaround\":");
+            turnaround.appendJson(sb);
+            sb.append('}');
+        }
+
+        void writeState(StateWriter out) throws IOException {
+            response.writeState(out);
+            waiting.writeState(out);
+            turnaround.writeState(out);
+        }
+
+        void readState(StateReader in) throws IOException {
+            response.readState(in);
+            waiting.readState(in);
+            turnaround.readState(in);
+        }
+    }
+}
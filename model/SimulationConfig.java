@@ -1,17 +1,51 @@
 package model;
 
-import java.util.ArrayList;
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.List;
 
-public class SimulationConfig {
+public class SimulationConfig implements Closeable {
     // Configurações globais da simulação e lista de processos
     private String algorithmName;
     private int quantum;
+    // Quantum de cada nível (ex.: MLFQ com "2,4,8"); null = só o quantum acima
+    private int[] quantums;
     private int runMode = 1; // 0 = step-by-step, 1 = automático
+    private final ProcessTable processTable;
     private final List<Process> processList;
+    // Fonte de processos em streaming (opcional); se definida, substitui a tabela
+    private ProcessSource processSource;
 
     public SimulationConfig() {
-        this.processList = new ArrayList<>();
+        this(new ProcessTable());
+    }
+
+    private SimulationConfig(ProcessTable processTable) {
+        this.processTable = processTable;
+        this.processList = processTable.asList();
+    }
+
+    /**
+     * Nova configuração com outro algoritmo/quantum que compartilha a mesma tabela de
+     * processos (somente leitura: cada SimController trabalha sobre uma cópia).
+     */
+    public SimulationConfig withRun(String algorithmName, int quantum) {
+        SimulationConfig c = new SimulationConfig(processTable);
+        c.algorithmName = algorithmName;
+        c.quantum = quantum;
+        c.runMode = runMode;
+        // Fonte consumida sob demanda: cada execução recebe a sua, desde o início
+        c.processSource = processSource != null ? processSource.restart() : null;
+        return c;
+    }
+
+    // Fecha a fonte de processos (ex.: a de parseStreaming); as fontes de withRun são
+    // fechadas pelo controlador que as consome
+    @Override
+    public void close() throws IOException {
+        if (processSource != null) {
+            processSource.close();
+        }
     }
 
     // Getters e Setters
@@ -19,10 +53,115 @@ public class SimulationConfig {
     public void setAlgorithmName(String algorithmName) { this.algorithmName = algorithmName; }
 
     public int getQuantum() { return quantum; }
-    public void setQuantum(int quantum) { this.quantum = quantum; }
+    public void setQuantum(int quantum) {
+        this.quantum = quantum;
+        this.quantums = null;
+    }
+
+    // Quantum por nível; o primeiro é o quantum da configuração
+    public int[] getQuantums() { return quantums != null ? quantums.clone() : new int[]{quantum}; }
+    public void setQuantums(int[] quantums) {
+        if (quantums == null || quantums.length == 0) {
+            throw new IllegalArgumentException("Lista de quantum vazia.");
+        }
+        this.quantum = quantums[0];
+        this.quantums = quantums.length > 1 ? quantums.clone() : null;
+    }
+
+    /**
+     * Lê o quantum do cabeçalho: um número ("5") ou um por nível separados por vírgula ("2,4,8").
+     */
+    public static int[] parseQuantums(String text) {
+        String[] parts = text.split(",");
+        int[] values = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            try {
+                values[i] = Integer.parseInt(parts[i].trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Quantum inválido: " + text);
+            }
+            if (values[i] < 1) {
+                throw new IllegalArgumentException("Quantum deve ser positivo: " + text);
+            }
+        }
+        return values;
+    }
+
+    // Quantum no formato do cabeçalho ("5" ou "2,4,8")
+    public String formatQuantums() {
+        StringBuilder sb = new StringBuilder();
+        for (int q : getQuantums()) {
+            if (sb.length() > 0) sb.append(',');
+            sb.append(q);
+        }
+        return sb.toString();
+    }
 
     public int getRunMode() { return runMode; }
     public void setRunMode(int runMode) { this.runMode = runMode; }
 
+    // Lista de visões Process sobre a tabela (usada pela UI)
     public List<Process> getProcessList() { return processList; }
+
+    public ProcessTable getProcessTable() { return processTable; }
+
+    public ProcessSource getProcessSource() { return processSource; }
+    public void setProcessSource(ProcessSource processSource) { this.processSource = processSource; }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder - Monta uma configuração sem arquivo: processos adicionados um a um
+     * ou uma fonte de processos (ex.: WorkloadGenerator).
+     */
+    public static class Builder {
+        private final SimulationConfig config = new SimulationConfig();
+
+        public Builder algorithm(String algorithmName) {
+            config.setAlgorithmName(algorithmName);
+            return this;
+        }
+
+        public Builder quantum(int quantum) {
+            config.setQuantum(quantum);
+            return this;
+        }
+
+        // Quantum por nível (MLFQ)
+        public Builder quantums(int... quantums) {
+            config.setQuantums(quantums);
+            return this;
+        }
+
+        public Builder runMode(int runMode) {
+            config.setRunMode(runMode);
+            return this;
+        }
+
+        public Builder process(String id, int color, int startTime, int duration, int priority) {
+            config.getProcessTable().add(id, color, startTime, duration, priority);
+            return this;
+        }
+
+        // Processo com eventos de E/S no formato do arquivo (ex.: "IO:2-1;DISCO:3-2")
+        public Builder process(String id, int color, int startTime, int duration, int priority, String events) {
+            int h = config.getProcessTable().add(id, color, startTime, duration, priority);
+            config.getProcessTable().setEventList(h, Event.parseList(events.split(";"), 0));
+            return this;
+        }
+
+        public Builder source(ProcessSource source) {
+            config.setProcessSource(source);
+            return this;
+        }
+
+        public SimulationConfig build() {
+            if (config.getAlgorithmName() == null) {
+                throw new IllegalStateException("Algoritmo de escalonamento não definido.");
+            }
+            return config;
+        }
+    }
 }
@@ -0,0 +1,78 @@
+package model;
+
+/**
+ * SplitMix64 - Gerador pseudoaleatório divisível (mesmo algoritmo do SplittableRandom).
+ * split() cria um fluxo independente, para que cada réplica ou cada atributo gerado
+ * tenha sua própria sequência; o estado é só (seed, gamma), fácil de salvar e restaurar.
+ * Não é thread-safe: cada thread deve usar seu próprio fluxo obtido com split().
+ */
+public class SplitMix64 {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long seed;
+    private long gamma;
+
+    public SplitMix64(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    public SplitMix64(long seed, long gamma) {
+        this.seed = seed;
+        this.gamma = gamma | 1L; // gamma precisa ser ímpar
+    }
+
+    public long getSeed() { return seed; }
+
+    public long getGamma() { return gamma; }
+
+    // Volta a um estado salvo com getSeed()/getGamma() (ex.: checkpoint)
+    public void setState(long seed, long gamma) {
+        this.seed = seed;
+        this.gamma = gamma | 1L;
+    }
+
+    public long nextLong() {
+        return mix64(nextSeed());
+    }
+
+    // Inteiro uniforme em [0, bound)
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound deve ser positivo: " + bound);
+        }
+        return (int) (((nextLong() >>> 32) * bound) >>> 32);
+    }
+
+    // Real uniforme em [0, 1)
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    // Real uniforme em (0, 1], seguro para log() e divisões
+    public double nextDoubleNonZero() {
+        return 1.0 - nextDouble();
+    }
+
+    // Fluxo independente; avança este gerador
+    public SplitMix64 split() {
+        return new SplitMix64(nextLong(), mixGamma(nextSeed()));
+    }
+
+    private long nextSeed() {
+        return seed += gamma;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return (n < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
@@ -0,0 +1,137 @@
+package model;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * StateReader - Leitura do estado escrito por StateWriter (checkpoint), na mesma ordem.
+ */
+public class StateReader implements Closeable {
+    private final InputStream in;
+    private final byte[] buffer = new byte[1 << 16];
+    private int pos;
+    private int limit;
+    private String lastId = "";
+    private int version;
+
+    public StateReader(InputStream in) {
+        this.in = in;
+    }
+
+    // Confere os bytes mágicos e aceita versões até a informada
+    public int readHeader(byte[] magic, int version) throws IOException {
+        for (byte b : magic) {
+            if (readByte() != (b & 0xFF)) {
+                throw new IOException("Arquivo não é um checkpoint.");
+            }
+        }
+        int v = (int) readVarint();
+        if (v < 1 || v > version) {
+            throw new IOException("Versão de checkpoint não suportada: " + v);
+        }
+        this.version = v;
+        return v;
+    }
+
+    // Versão lida por readHeader (0 antes dele): partes do estado mudaram entre versões
+    public int getVersion() {
+        return version;
+    }
+
+    public int readInt() throws IOException {
+        long v = readVarint();
+        return (int) (v >>> 1) ^ -(int) (v & 1);
+    }
+
+    public long readLong() throws IOException {
+        long v = readVarint();
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    public boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    public double readDouble() throws IOException {
+        long bits = 0;
+        for (int shift = 0; shift < 64; shift += 8) {
+            bits |= (long) readByte() << shift;
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    public String readString() throws IOException {
+        long length = readVarint();
+        if (length == 0) return null;
+        byte[] bytes = new byte[checkedLength(length - 1)];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) readByte();
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public String readId() throws IOException {
+        long prefix = readVarint();
+        if (prefix == 0) return null;
+        String suffix = readString();
+        int length = checkedLength(prefix - 1);
+        if (length > lastId.length() || suffix == null) {
+            throw new IOException("Id inválido no checkpoint.");
+        }
+        lastId = lastId.substring(0, length) + suffix;
+        return lastId;
+    }
+
+    public int[] readInts() throws IOException {
+        int[] values = new int[checkedLength(readVarint())];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = readInt();
+        }
+        return values;
+    }
+
+    public long[] readLongs() throws IOException {
+        long[] values = new long[checkedLength(readVarint())];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = readLong();
+        }
+        return values;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    int readByte() throws IOException {
+        if (pos == limit) {
+            limit = in.read(buffer, 0, buffer.length);
+            pos = 0;
+            if (limit <= 0) {
+                limit = 0;
+                throw new EOFException("Checkpoint truncado.");
+            }
+        }
+        return buffer[pos++] & 0xFF;
+    }
+
+    long readVarint() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Varint inválido no checkpoint.");
+    }
+
+    private static int checkedLength(long length) throws IOException {
+        if (length < 0 || length > Integer.MAX_VALUE - 8) {
+            throw new IOException("Tamanho inválido no checkpoint: " + length);
+        }
+        return (int) length;
+    }
+}
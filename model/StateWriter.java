@@ -0,0 +1,132 @@
+package model;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * StateWriter - Escrita compacta do estado de uma simulação (checkpoint). Inteiros vão em
+ * varint (zigzag), strings em UTF-8 com o tamanho na frente e ids de processo com o prefixo
+ * comum ao id anterior, como no rastro do escalonamento. Cada componente (tabela, filas,
+ * escalonador, dispositivos, Gantt) escreve o próprio estado e o lê de volta com StateReader,
+ * na mesma ordem.
+ */
+public class StateWriter implements Closeable {
+    private final OutputStream out;
+    private final byte[] buffer = new byte[1 << 16];
+    private int count;
+    private String lastId = "";
+
+    public StateWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    // Identificação do arquivo: bytes mágicos e versão do formato
+    public void writeHeader(byte[] magic, int version) throws IOException {
+        writeBytes(magic);
+        writeVarint(version);
+    }
+
+    public void writeInt(int v) throws IOException {
+        writeVarint(((v << 1) ^ (v >> 31)) & 0xFFFFFFFFL);
+    }
+
+    public void writeLong(long v) throws IOException {
+        writeVarint((v << 1) ^ (v >> 63));
+    }
+
+    public void writeBoolean(boolean v) throws IOException {
+        writeByte(v ? 1 : 0);
+    }
+
+    public void writeDouble(double v) throws IOException {
+        long bits = Double.doubleToRawLongBits(v);
+        for (int shift = 0; shift < 64; shift += 8) {
+            writeByte((int) (bits >>> shift));
+        }
+    }
+
+    // String que pode ser null
+    public void writeString(String s) throws IOException {
+        if (s == null) {
+            writeVarint(0);
+            return;
+        }
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        writeVarint(bytes.length + 1L);
+        writeBytes(bytes);
+    }
+
+    // Id de processo (pode ser null): só o que difere do id anterior
+    public void writeId(String id) throws IOException {
+        if (id == null) {
+            writeVarint(0);
+            return;
+        }
+        int prefix = 0;
+        int max = Math.min(id.length(), lastId.length());
+        while (prefix < max && id.charAt(prefix) == lastId.charAt(prefix)) prefix++;
+        // Não separa um par de surrogates
+        if (prefix > 0 && Character.isHighSurrogate(id.charAt(prefix - 1))) prefix--;
+        writeVarint(prefix + 1L);
+        writeString(id.substring(prefix));
+        lastId = id;
+    }
+
+    // Os count primeiros valores do array, com o tamanho na frente
+    public void writeInts(int[] values, int count) throws IOException {
+        writeVarint(count);
+        for (int i = 0; i < count; i++) {
+            writeInt(values[i]);
+        }
+    }
+
+    public void writeLongs(long[] values, int count) throws IOException {
+        writeVarint(count);
+        for (int i = 0; i < count; i++) {
+            writeLong(values[i]);
+        }
+    }
+
+    public void flush() throws IOException {
+        out.write(buffer, 0, count);
+        count = 0;
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        out.close();
+    }
+
+    void writeVarint(long v) throws IOException {
+        if (count + 10 > buffer.length) drain();
+        while ((v & ~0x7FL) != 0) {
+            buffer[count++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        buffer[count++] = (byte) v;
+    }
+
+    void writeByte(int b) throws IOException {
+        if (count == buffer.length) drain();
+        buffer[count++] = (byte) b;
+    }
+
+    void writeBytes(byte[] bytes) throws IOException {
+        if (count + bytes.length > buffer.length) drain();
+        if (bytes.length > buffer.length) {
+            out.write(bytes);
+            return;
+        }
+        System.arraycopy(bytes, 0, buffer, count, bytes.length);
+        count += bytes.length;
+    }
+
+    private void drain() throws IOException {
+        out.write(buffer, 0, count);
+        count = 0;
+    }
+}
@@ -1,15 +1,43 @@
 package model;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
+import java.util.concurrent.locks.LockSupport;
 
 public class SystemClock {
+    // Política para prazos perdidos no modo cadenciado (listeners mais lentos que o período)
+    public static final int CATCH_UP_ALL = 0;     // executa todos os atrasados em rajada
+    public static final int CATCH_UP_LIMITED = 1; // rajada de até maxCatchUp ticks, descarta o resto
+    public static final int CATCH_UP_SKIP = 2;    // descarta os atrasados e segue no próximo prazo
+
+    private static final TickListener[] NO_LISTENERS = new TickListener[0];
+    // Acorda um pouco antes do prazo e espera o resto girando (parkNanos não é tão preciso)
+    private static final long SPIN_NANOS = 100_000L;
+    // Maior rajada por chamada de advance() ao recuperar atraso
+    private static final int MAX_BURST = 1 << 16;
+
     private volatile int currentTime;
-    private volatile boolean running;
-    private final long tickIntervalMs;
-    private final List<Runnable> listeners;
+    protected volatile boolean running;
+    // Período entre ticks em velocidade 1 (ns) e multiplicador de velocidade
+    private volatile long tickIntervalNanos;
+    private volatile double speed = 1.0;
+    private volatile int catchUp = CATCH_UP_ALL;
+    private volatile int maxCatchUp = 100;
+    // Copiado a cada alteração: o despacho lê o array sem lock e sem alocar
+    private volatile TickListener[] listeners = NO_LISTENERS;
     private Thread tickThread;
 
+    // Contador de ticks desde o último start, para medir ticks por segundo
+    private volatile long tickCount;
+    private volatile long startNanos;
+    private volatile long stopNanos;
+    // Ritmo desde o último start: ticks executados atrasados, prazos descartados e maior atraso
+    private volatile long lateTicks;
+    private volatile long skippedTicks;
+    private volatile long maxLagNanos;
+
+    // Métricas (opcional): tempo de despacho dos listeners a cada tick
+    private MetricsRegistry metrics;
+
     public SystemClock() {
         this(100L);
     }
@@ -17,8 +45,7 @@ public class SystemClock {
     public SystemClock(long tickIntervalMs) {
         this.currentTime = 0;
         this.running = false;
-        this.tickIntervalMs = Math.max(1L, tickIntervalMs);
-        this.listeners = new ArrayList<>();
+        this.tickIntervalNanos = Math.max(1L, tickIntervalMs) * 1_000_000L;
     }
 
     public synchronized void start() {
@@ -27,18 +54,9 @@ public class SystemClock {
             return;
         }
         running = true;
+        markStarted();
         // cria thread para ticks periódicos
-        tickThread = new Thread(() -> {
-            while (running) {
-                try {
-                    Thread.sleep(tickIntervalMs);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-                if (!running) break;
-                tick();
-            }
-        }, "Clock-Tick-Thread");
+        tickThread = new Thread(this::paceLoop, "Clock-Tick-Thread");
         tickThread.setDaemon(true);
         tickThread.start();
     }
@@ -49,8 +67,10 @@ public class SystemClock {
             return;
         }
         running = false;
-        // Interrompe a thread
-        if (tickThread != null) {
+        stopNanos = System.nanoTime();
+        notifyAll();
+        // Interrompe a thread (se o stop vier da própria thread do clock, não espera por ela)
+        if (tickThread != null && tickThread != Thread.currentThread()) {
             tickThread.interrupt();
             try {
                 tickThread.join(200);
@@ -60,24 +80,145 @@ public class SystemClock {
                 tickThread = null;
             }
         }
+        tickThread = null;
+    }
+
+    public void runToCompletion() throws InterruptedException {
+        // Inicia o clock e bloqueia até que alguém chame stop() (ex.: fim da simulação)
+        start();
+        synchronized (this) {
+            while (running) {
+                wait();
+            }
+        }
+    }
+
+    /**
+     * Ticks em ritmo fixo: os prazos são início + k * período, em ns, então o tempo gasto
+     * pelos listeners não se acumula como atraso. Prazos perdidos seguem a política de catchUp.
+     * Mudar a velocidade mantém a fração já decorrida do período em andamento.
+     */
+    private void paceLoop() {
+        long period = currentPeriod();
+        long next = System.nanoTime() + period;
+        while (running) {
+            long now = System.nanoTime();
+            long p = currentPeriod();
+            if (p != period) {
+                next = now + (long) ((double) Math.max(0L, next - now) / period * p);
+                period = p;
+            }
+            if (now < next) {
+                long remaining = next - now;
+                if (remaining > SPIN_NANOS) {
+                    LockSupport.parkNanos(this, remaining - SPIN_NANOS);
+                } else {
+                    Thread.onSpinWait();
+                }
+                continue;
+            }
+
+            // Prazos vencidos até agora (1 = em dia)
+            long lag = now - next;
+            long due = lag / period + 1;
+            long skip = 0;
+            if (due > 1) {
+                maxLagNanos = Math.max(maxLagNanos, lag);
+                int policy = catchUp;
+                if (policy == CATCH_UP_SKIP) {
+                    skip = due - 1;
+                } else if (policy == CATCH_UP_LIMITED) {
+                    skip = Math.max(0L, due - 1 - maxCatchUp);
+                }
+            }
+            int run = (int) Math.min(due - skip, MAX_BURST);
+            skippedTicks += skip;
+            lateTicks += run - 1;
+            next += (skip + run) * period;
+            if (run == 1) {
+                tick();
+            } else {
+                advance(run);
+            }
+        }
+    }
+
+    private long currentPeriod() {
+        return Math.max(1L, (long) (tickIntervalNanos / speed));
+    }
+
+    protected void markStarted() {
+        lateTicks = 0;
+        skippedTicks = 0;
+        maxLagNanos = 0;
+        tickCount = 0;
+        startNanos = System.nanoTime();
+        stopNanos = 0;
     }
 
     public void tick() {
-        currentTime++;
+        int time = currentTime + 1;
+        currentTime = time;
+        tickCount++;
 
         // Notifica os listeners
-        List<Runnable> snapshot;
-        synchronized (listeners) {
-            snapshot = new ArrayList<>(listeners);
+        TickListener[] snapshot = listeners;
+        MetricsRegistry m = metrics;
+        long dispatchStart = m != null ? System.nanoTime() : 0L;
+        for (TickListener listener : snapshot) {
+            try {
+                listener.onTick(time);
+            } catch (Throwable t) {
+                t.printStackTrace();
+            }
+        }
+        if (m != null) {
+            m.recordListenerDispatch(System.nanoTime() - dispatchStart);
         }
+    }
+
+    /**
+     * Avança n ticks de uma vez: cada listener recebe o lote inteiro em onTicks, um listener
+     * depois do outro (não intercalados tick a tick). Durante o lote getCurrentTime() já
+     * retorna o último tick, então os listeners usam o tempo recebido. Se um listener para
+     * antes do fim, o relógio fica no último tick processado e os seguintes só recebem até ele.
+     * Retorna quantos ticks avançou.
+     */
+    public int advance(int n) {
+        int from = currentTime + 1;
+        if (n <= 0 || from < 0) return 0;
+        int last = (int) Math.min((long) from + n - 1, Integer.MAX_VALUE);
 
-        for (Runnable listener : snapshot) {
+        TickListener[] snapshot = listeners;
+        MetricsRegistry m = metrics;
+        long dispatchStart = m != null ? System.nanoTime() : 0L;
+        for (TickListener listener : snapshot) {
+            currentTime = last;
             try {
-                listener.run();
+                last = Math.max(from - 1, Math.min(last, listener.onTicks(from, last)));
             } catch (Throwable t) {
                 t.printStackTrace();
             }
         }
+        currentTime = last;
+        int advanced = last - from + 1;
+        tickCount += advanced;
+        if (m != null && advanced > 0) {
+            // Média por tick, comparável ao despacho de tick()
+            m.recordListenerDispatch((System.nanoTime() - dispatchStart) / advanced);
+        }
+        return advanced;
+    }
+
+    public void setMetrics(MetricsRegistry metrics) {
+        this.metrics = metrics;
+    }
+
+    public synchronized void advanceTo(int time) {
+        // Salta direto para o tempo informado sem notificar os listeners (modo orientado a eventos)
+        if (time > currentTime) {
+            currentTime = time;
+        }
     }
 
     public synchronized void reset() {
@@ -90,24 +231,145 @@ public class SystemClock {
         return currentTime;
     }
 
-    public void addListener(Runnable listener) {
-        // Adiciona um listener pra lista
+    public synchronized void addListener(TickListener listener) {
+        // Adiciona um listener (copia o array; o despacho continua com o anterior)
         if (listener == null) return;
-        synchronized (listeners) {
-            listeners.add(listener);
+        TickListener[] copy = Arrays.copyOf(listeners, listeners.length + 1);
+        copy[copy.length - 1] = listener;
+        listeners = copy;
+    }
+
+    public synchronized void removeListener(TickListener listener) {
+        // Remove um listener (copia o array sem ele)
+        if (listener == null) return;
+        TickListener[] current = listeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                TickListener[] copy = new TickListener[current.length - 1];
+                System.arraycopy(current, 0, copy, 0, i);
+                System.arraycopy(current, i + 1, copy, i, copy.length - i);
+                listeners = copy;
+                return;
+            }
         }
     }
 
-    public void removeListener(Runnable listener) {
-        // Remove um listener da lista
+    public void addListener(Runnable listener) {
+        // Listener antigo, que consulta getCurrentTime() a cada tick
+        if (listener == null) return;
+        addListener(new RunnableListener(listener));
+    }
+
+    public synchronized void removeListener(Runnable listener) {
         if (listener == null) return;
-        synchronized (listeners) {
-            listeners.remove(listener);
+        for (TickListener l : listeners) {
+            if (l instanceof RunnableListener && ((RunnableListener) l).runnable == listener) {
+                removeListener(l);
+                return;
+            }
+        }
+    }
+
+    public void setTickIntervalNanos(long nanos) {
+        // Período entre ticks em velocidade 1 (ns); vale já para o próximo prazo
+        this.tickIntervalNanos = Math.max(1L, nanos);
+        wakePacer();
+    }
+
+    public long getTickIntervalNanos() {
+        return tickIntervalNanos;
+    }
+
+    public void setSpeed(double speed) {
+        // Multiplicador de velocidade (2 = duas vezes mais rápido), ajustável com o relógio rodando
+        if (!(speed > 0) || Double.isInfinite(speed)) {
+            throw new IllegalArgumentException("Velocidade inválida: " + speed);
         }
+        this.speed = speed;
+        wakePacer();
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    public void setCatchUp(int policy, int maxCatchUp) {
+        // CATCH_UP_ALL, CATCH_UP_LIMITED (rajada de até maxCatchUp ticks) ou CATCH_UP_SKIP
+        this.catchUp = policy;
+        this.maxCatchUp = Math.max(0, maxCatchUp);
+    }
+
+    public int getCatchUp() {
+        return catchUp;
+    }
+
+    private synchronized void wakePacer() {
+        // Recalcula o prazo em andamento (a thread pode estar dormindo um período longo)
+        if (tickThread != null) LockSupport.unpark(tickThread);
     }
 
     public boolean isRunning() {
         // Getter do estado
         return running;
     }
-}
\ No newline at end of file
+
+    public long getTickCount() {
+        // Ticks executados desde o último start
+        return tickCount;
+    }
+
+    public double getTicksPerSecond() {
+        // Taxa de ticks atingida desde o último start (até o stop, se já parou)
+        long start = startNanos;
+        if (start == 0) return 0.0;
+        long end = stopNanos != 0 ? stopNanos : System.nanoTime();
+        long elapsed = end - start;
+        return elapsed > 0 ? tickCount * 1_000_000_000.0 / elapsed : 0.0;
+    }
+
+    public double getTargetTicksPerSecond() {
+        // Taxa pedida no modo cadenciado: período e velocidade atuais
+        return 1_000_000_000.0 / currentPeriod();
+    }
+
+    public long getLateTicks() {
+        // Ticks executados em rajada depois do próprio prazo (desde o último start)
+        return lateTicks;
+    }
+
+    public long getSkippedTicks() {
+        // Prazos perdidos descartados pela política de catchUp (desde o último start)
+        return skippedTicks;
+    }
+
+    public long getMaxLagNanos() {
+        // Maior atraso em relação a um prazo (desde o último start)
+        return maxLagNanos;
+    }
+
+    /**
+     * Adapta um Runnable: no lote de advance() o relógio passa por cada tick antes de chamá-lo,
+     * para que getCurrentTime() continue certo.
+     */
+    private final class RunnableListener implements TickListener {
+        final Runnable runnable;
+
+        RunnableListener(Runnable runnable) {
+            this.runnable = runnable;
+        }
+
+        @Override
+        public void onTick(int time) {
+            runnable.run();
+        }
+
+        @Override
+        public int onTicks(int from, int to) {
+            for (int time = from; time <= to; time++) {
+                currentTime = time;
+                runnable.run();
+            }
+            return to;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package model;
+
+/**
+ * TickListener - Recebe os ticks do SystemClock com o tempo já informado, sem precisar
+ * consultar o relógio. Em advance(n) o intervalo inteiro chega numa só chamada a onTicks.
+ */
+public interface TickListener {
+    void onTick(int time);
+
+    /**
+     * Processa os ticks from..to (inclusive) e retorna o último processado: quem para no meio
+     * (ex.: a simulação terminou) retorna antes de to. Por padrão chama onTick para cada um.
+     */
+    default int onTicks(int from, int to) {
+        for (int time = from; time <= to; time++) {
+            onTick(time);
+        }
+        return to;
+    }
+}
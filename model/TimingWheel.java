@@ -0,0 +1,287 @@
+package model;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * TimingWheel - Roda de tempo hierárquica para transições futuras. Cada entrada é um
+ * payload int com o tick em que vence. Guarda os términos de E/S de IoDevices (payload =
+ * dispositivo), que os dois modos de simulação consultam a cada tick ou salto.
+ *
+ * São 4 níveis de 256 posições (8 bits do tick cada). Uma entrada fica no nível mais baixo
+ * cujo bloco ainda contém o tempo atual da roda; ao entrar em um novo bloco, a posição do
+ * nível de cima é redistribuída para os de baixo. Inserir é O(1) e avançar toca só as
+ * posições que venceram; um bitmap por nível acha a próxima posição ocupada sem percorrer
+ * as vazias, então o próximo término sai sem percorrer os dispositivos.
+ * Entradas com o mesmo tick saem na ordem em que foram agendadas.
+ */
+public class TimingWheel {
+    public static final int NONE = -1;
+
+    private static final int LEVELS = 4;
+    private static final int BITS = 8;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+
+    // Entradas em arrays paralelos, encadeadas por next (listas por posição e livres)
+    private int[] times = new int[64];
+    private int[] payloads = new int[64];
+    private int[] next = new int[64];
+    private int free = NONE;
+    private int used;
+
+    // Listas de cada posição (início e fim, para manter a ordem de agendamento)
+    private final int[] heads = new int[LEVELS * SLOTS];
+    private final int[] tails = new int[LEVELS * SLOTS];
+    // Menor tick de cada posição (para o próximo vencimento dos níveis de cima)
+    private final int[] minTimes = new int[LEVELS * SLOTS];
+    private final long[] occupied = new long[LEVELS * SLOTS / 64];
+
+    // Entradas já vencidas (tick <= now), em ordem
+    private int dueHead = NONE;
+    private int dueTail = NONE;
+
+    private int now;
+    private int size;
+    // Próximo vencimento já calculado (-1 = recalcular)
+    private int cachedNext = -1;
+
+    public TimingWheel() {
+        this(0);
+    }
+
+    public TimingWheel(int startTime) {
+        Arrays.fill(heads, NONE);
+        Arrays.fill(tails, NONE);
+        Arrays.fill(minTimes, Integer.MAX_VALUE);
+        this.now = Math.max(0, startTime);
+    }
+
+    /**
+     * Agenda payload para o tick time. Ticks que já passaram vencem imediatamente.
+     */
+    public void schedule(int time, int payload) {
+        int e = allocate();
+        times[e] = time;
+        payloads[e] = payload;
+        size++;
+        place(e);
+        if (cachedNext >= 0 && time < cachedNext) {
+            cachedNext = Math.max(time, now);
+        }
+    }
+
+    // Tick do próximo vencimento, ou Integer.MAX_VALUE se a roda está vazia
+    public int nextTime() {
+        if (dueHead != NONE) return now;
+        if (size == 0) return Integer.MAX_VALUE;
+        if (cachedNext >= 0) return cachedNext;
+        int result = Integer.MAX_VALUE;
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = level * BITS;
+            int slot = nextOccupied(level, ((now >>> shift) & MASK) + 1);
+            if (slot >= 0) {
+                result = level == 0 ? (now & ~MASK) | slot : minTimes[level * SLOTS + slot];
+                break;
+            }
+        }
+        cachedNext = result;
+        return result;
+    }
+
+    /**
+     * Retira a próxima entrada com tick <= time (em ordem de tick e de agendamento) e
+     * retorna seu payload, ou NONE. O tempo da roda avança até o tick dessa entrada.
+     */
+    public int poll(int time) {
+        while (dueHead == NONE) {
+            int t = nextTime();
+            if (t > time || t == Integer.MAX_VALUE) return NONE;
+            moveTo(t);
+        }
+        int e = dueHead;
+        dueHead = next[e];
+        if (dueHead == NONE) dueTail = NONE;
+        int payload = payloads[e];
+        release(e);
+        return payload;
+    }
+
+    // Tick da última entrada retirada (tempo atual da roda)
+    public int getTime() { return now; }
+
+    public int size() { return size; }
+
+    public boolean isEmpty() { return size == 0; }
+
+    /**
+     * Checkpoint: tempo da roda e as entradas de cada posição na ordem das listas, para que
+     * vencimentos no mesmo tick saiam na mesma ordem depois de restaurar.
+     */
+    public void writeState(StateWriter out) throws IOException {
+        out.writeInt(now);
+        out.writeInt(size);
+        writeList(out, dueHead);
+        for (int index = 0; index < heads.length; index++) {
+            if (heads[index] != NONE) {
+                out.writeInt(index);
+                writeList(out, heads[index]);
+            }
+        }
+        out.writeInt(-1);
+    }
+
+    public void readState(StateReader in) throws IOException {
+        Arrays.fill(heads, NONE);
+        Arrays.fill(tails, NONE);
+        Arrays.fill(minTimes, Integer.MAX_VALUE);
+        Arrays.fill(occupied, 0L);
+        free = NONE;
+        used = 0;
+        dueHead = NONE;
+        dueTail = NONE;
+        cachedNext = -1;
+        now = in.readInt();
+        size = in.readInt();
+        for (int n = in.readInt(); n > 0; n--) {
+            int e = allocate();
+            times[e] = in.readInt();
+            payloads[e] = in.readInt();
+            appendDue(e);
+        }
+        for (int index = in.readInt(); index >= 0; index = in.readInt()) {
+            if (index >= heads.length) {
+                throw new IOException("Roda de tempo inválida no checkpoint.");
+            }
+            for (int n = in.readInt(); n > 0; n--) {
+                int e = allocate();
+                times[e] = in.readInt();
+                payloads[e] = in.readInt();
+                next[e] = NONE;
+                if (heads[index] == NONE) {
+                    heads[index] = e;
+                    occupied[index >>> 6] |= 1L << index;
+                } else {
+                    next[tails[index]] = e;
+                }
+                tails[index] = e;
+                minTimes[index] = Math.min(minTimes[index], times[e]);
+            }
+        }
+    }
+
+    private void writeList(StateWriter out, int head) throws IOException {
+        int count = 0;
+        for (int e = head; e != NONE; e = next[e]) count++;
+        out.writeInt(count);
+        for (int e = head; e != NONE; e = next[e]) {
+            out.writeInt(times[e]);
+            out.writeInt(payloads[e]);
+        }
+    }
+
+    // Avança o tempo da roda até t (a entrada mais próxima), redistribuindo os níveis de cima
+    private void moveTo(int t) {
+        int old = now;
+        now = t;
+        cachedNext = -1;
+        for (int level = LEVELS - 1; level >= 1; level--) {
+            int shift = level * BITS;
+            // Entrou em um novo bloco deste nível: desce as entradas da posição de t
+            if ((old >>> shift) != (t >>> shift)) {
+                int index = level * SLOTS + ((t >>> shift) & MASK);
+                int e = takeSlot(index);
+                while (e != NONE) {
+                    int following = next[e];
+                    place(e);
+                    e = following;
+                }
+            }
+        }
+        // Posição de t no nível 0: todas vencem agora
+        int e = takeSlot(t & MASK);
+        while (e != NONE) {
+            int following = next[e];
+            appendDue(e);
+            e = following;
+        }
+    }
+
+    private void place(int e) {
+        int time = times[e];
+        if (time <= now) {
+            appendDue(e);
+            return;
+        }
+        int level = 0;
+        while (level < LEVELS - 1 && (time >>> ((level + 1) * BITS)) != (now >>> ((level + 1) * BITS))) {
+            level++;
+        }
+        int index = level * SLOTS + ((time >>> (level * BITS)) & MASK);
+        next[e] = NONE;
+        if (heads[index] == NONE) {
+            heads[index] = e;
+            occupied[index >>> 6] |= 1L << index;
+        } else {
+            next[tails[index]] = e;
+        }
+        tails[index] = e;
+        if (time < minTimes[index]) minTimes[index] = time;
+    }
+
+    private int takeSlot(int index) {
+        int e = heads[index];
+        heads[index] = NONE;
+        tails[index] = NONE;
+        minTimes[index] = Integer.MAX_VALUE;
+        occupied[index >>> 6] &= ~(1L << index);
+        return e;
+    }
+
+    private void appendDue(int e) {
+        next[e] = NONE;
+        if (dueHead == NONE) {
+            dueHead = e;
+        } else {
+            next[dueTail] = e;
+        }
+        dueTail = e;
+    }
+
+    // Primeira posição ocupada do nível a partir de from, ou -1
+    private int nextOccupied(int level, int from) {
+        if (from >= SLOTS) return -1;
+        int base = level * SLOTS;
+        int word = (base + from) >>> 6;
+        int last = (base + SLOTS - 1) >>> 6;
+        long bits = occupied[word] & (-1L << (from & 63));
+        while (true) {
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits) - base;
+            }
+            if (++word > last) return -1;
+            bits = occupied[word];
+        }
+    }
+
+    private int allocate() {
+        if (free != NONE) {
+            int e = free;
+            free = next[e];
+            return e;
+        }
+        if (used == times.length) {
+            int capacity = used * 2;
+            times = Arrays.copyOf(times, capacity);
+            payloads = Arrays.copyOf(payloads, capacity);
+            next = Arrays.copyOf(next, capacity);
+        }
+        return used++;
+    }
+
+    private void release(int e) {
+        next[e] = free;
+        free = e;
+        size--;
+    }
+}
@@ -0,0 +1,94 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * TraceRing - Buffer circular de capacidade fixa com os últimos registros do rastro, ainda
+ * sem formatar (tipo, tempo, texto e até quatro inteiros, em arrays paralelos). Cada registro
+ * tem um número de sequência crescente; só vira texto quando é lido (ex.: as linhas visíveis
+ * da UI), então guardar centenas de milhares custa pouca memória e nenhuma formatação.
+ * Um escritor (a thread do TraceSink) e leitores em outras threads.
+ */
+public class TraceRing {
+    private final int capacity;
+    private final int[] types;
+    private final int[] times;
+    private final String[] texts;
+    private final int[] as, bs, cs, ds;
+    // Registros já gravados; o mais antigo ainda guardado é total - size()
+    private long total;
+
+    // Reaproveitado pelas leituras (sempre dentro do lock)
+    private final StringBuilder sb = new StringBuilder(128);
+
+    public TraceRing(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.types = new int[this.capacity];
+        this.times = new int[this.capacity];
+        this.texts = new String[this.capacity];
+        this.as = new int[this.capacity];
+        this.bs = new int[this.capacity];
+        this.cs = new int[this.capacity];
+        this.ds = new int[this.capacity];
+    }
+
+    public synchronized void add(int type, int time, String text, int a, int b, int c, int d) {
+        int slot = (int) (total % capacity);
+        types[slot] = type;
+        times[slot] = time;
+        texts[slot] = text;
+        as[slot] = a;
+        bs[slot] = b;
+        cs[slot] = c;
+        ds[slot] = d;
+        total++;
+    }
+
+    public int getCapacity() { return capacity; }
+
+    // Total de registros gravados desde o início (inclusive os que já saíram do buffer)
+    public synchronized long getTotal() { return total; }
+
+    // Sequência do registro mais antigo ainda guardado
+    public synchronized long getFirst() { return total - size(); }
+
+    public synchronized int size() { return (int) Math.min(total, capacity); }
+
+    // Tempo simulado do registro seq, ou -1 se ele já saiu do buffer
+    public synchronized int getTime(long seq) {
+        return contains(seq) ? times[(int) (seq % capacity)] : -1;
+    }
+
+    /**
+     * Linha formatada do registro seq, ou null se ele já saiu do buffer (ou ainda não existe).
+     */
+    public synchronized String getLine(long seq) {
+        if (!contains(seq)) return null;
+        int slot = (int) (seq % capacity);
+        sb.setLength(0);
+        TraceSink.format(sb, types[slot], times[slot], texts[slot], as[slot], bs[slot], cs[slot], ds[slot]);
+        return sb.toString();
+    }
+
+    /**
+     * Até count linhas a partir do registro from (as que ainda estão no buffer), em ordem.
+     */
+    public synchronized String[] getLines(long from, int count) {
+        long first = Math.max(from, total - size());
+        int n = (int) Math.max(0, Math.min(count - (first - from), total - first));
+        String[] lines = new String[n];
+        for (int i = 0; i < n; i++) {
+            lines[i] = getLine(first + i);
+        }
+        return lines;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(texts, null);
+        total = 0;
+    }
+
+    private boolean contains(long seq) {
+        return seq >= total - Math.min(total, capacity) && seq < total;
+    }
+}
@@ -0,0 +1,337 @@
+package model;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * TraceSink - Destino do rastro da simulação, com nível (OFF, SUMMARY ou FULL).
+ * O simulador grava registros só com primitivos e referências já existentes (sem formatar
+ * texto) em uma fila circular sem locks; uma thread de fundo formata e escreve cada linha
+ * no console, em um arquivo ou em um buffer circular em memória.
+ * Uso: if (trace.isEnabled(TraceSink.FULL)) trace.record(...).
+ * No modo toRing os registros ficam sem formatar num TraceRing e só viram texto quando lidos.
+ */
+public class TraceSink implements Closeable {
+    // Níveis
+    public static final int OFF = 0;
+    public static final int SUMMARY = 1;
+    public static final int FULL = 2;
+
+    // Tipos de registro (nível SUMMARY)
+    public static final int START = 0;
+    public static final int FINISHED = 1;
+    public static final int STOPPED = 2;
+    public static final int GANTT_FILE = 3;
+    // Tipos de registro (nível FULL)
+    public static final int RUN = 4;
+    public static final int RUN_SLICE = 5;
+    public static final int IDLE = 6;
+    public static final int IDLE_UNTIL = 7;
+    public static final int SWITCH = 8;
+    public static final int GANTT = 9;
+    public static final int GANTT_SKIP = 10;
+    public static final int IO_BLOCK = 11;
+    public static final int IO_DONE = 12;
+    // Checkpoint automático gravado (nível SUMMARY)
+    public static final int CHECKPOINT = 13;
+
+    private static final TraceSink DISABLED = new TraceSink(OFF, null, null, 0);
+
+    private final int level;
+
+    // Fila circular de registros (vários produtores, um consumidor), em arrays paralelos
+    private final int mask;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+    private final int[] types;
+    private final int[] times;
+    private final String[] texts;
+    private final int[] as, bs, cs, ds;
+
+    // Saída: writer (console/arquivo) ou buffer circular de registros
+    private final Writer out;
+    private final boolean closeOut;
+    private final TraceRing ring;
+
+    private final Thread writerThread;
+    private volatile boolean closed;
+    // Consumidor parado esperando registros: quem publica precisa acordá-lo
+    private volatile boolean parked;
+    private final StringBuilder sb = new StringBuilder(128);
+
+    private TraceSink(int level, Writer out, TraceRing ring, int capacity) {
+        this.level = level;
+        this.out = out;
+        this.closeOut = out != null && !(out instanceof ConsoleWriter);
+        this.ring = ring;
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        if (level == OFF) size = 1;
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+        this.types = new int[size];
+        this.times = new int[size];
+        this.texts = new String[size];
+        this.as = new int[size];
+        this.bs = new int[size];
+        this.cs = new int[size];
+        this.ds = new int[size];
+
+        if (level != OFF) {
+            writerThread = new Thread(this::drainLoop, "Trace-Writer");
+            writerThread.setDaemon(true);
+            writerThread.start();
+        } else {
+            writerThread = null;
+        }
+    }
+
+    // Rastro desligado: nenhum registro, nenhuma thread
+    public static TraceSink off() {
+        return DISABLED;
+    }
+
+    public static TraceSink toConsole(int level) {
+        return new TraceSink(level, new ConsoleWriter(System.out), null, 1 << 14);
+    }
+
+    public static TraceSink toFile(String path, int level) throws IOException {
+        Writer w = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(path), StandardCharsets.UTF_8), 1 << 16);
+        return new TraceSink(level, w, null, 1 << 14);
+    }
+
+    // Guarda só os últimos lines registros em memória (ex.: para a UI)
+    public static TraceSink toRing(int level, int lines) {
+        return new TraceSink(level, null, new TraceRing(lines), 1 << 14);
+    }
+
+    // Buffer circular do modo toRing (null nos outros destinos)
+    public TraceRing getRing() {
+        return ring;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public boolean isEnabled(int recordLevel) {
+        return recordLevel != OFF && level >= recordLevel;
+    }
+
+    /**
+     * Grava um registro. Campos não usados pelo tipo são ignorados; text é uma referência
+     * já existente (id do processo, nome do escalonador ou arquivo).
+     */
+    public void record(int type, int time, String text, int a, int b, int c, int d) {
+        if (level == OFF || closed) return;
+        long seq = tail.getAndIncrement();
+        int slot = (int) seq & mask;
+        // Fila cheia: espera o consumidor liberar o slot
+        while (sequences.get(slot) != seq) {
+            LockSupport.unpark(writerThread);
+            Thread.onSpinWait();
+        }
+        types[slot] = type;
+        times[slot] = time;
+        texts[slot] = text;
+        as[slot] = a;
+        bs[slot] = b;
+        cs[slot] = c;
+        ds[slot] = d;
+        // Escrita volátil: ou o consumidor vê o registro, ou nós vemos que ele está parado
+        sequences.set(slot, seq + 1);
+        if (parked) LockSupport.unpark(writerThread);
+    }
+
+    public void record(int type, int time, String text) {
+        record(type, time, text, 0, 0, 0, 0);
+    }
+
+    /**
+     * Espera até que todos os registros gravados até agora tenham sido escritos.
+     */
+    public void flush() {
+        if (writerThread == null) return;
+        long target = tail.get();
+        while (head < target && writerThread.isAlive()) {
+            LockSupport.unpark(writerThread);
+            Thread.yield();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (writerThread == null || closed) return;
+        flush();
+        closed = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Últimas linhas do buffer circular, da mais antiga para a mais recente.
+     */
+    public String[] getLines() {
+        if (ring == null) return new String[0];
+        return ring.getLines(ring.getFirst(), ring.size());
+    }
+
+    // Thread de fundo: consome a fila, formata e escreve
+    private void drainLoop() {
+        long next = 0;
+        while (true) {
+            int slot = (int) next & mask;
+            if (sequences.get(slot) == next + 1) {
+                if (ring != null) {
+                    // Sem formatar: o texto só é montado quando a linha for lida
+                    ring.add(types[slot], times[slot], texts[slot], as[slot], bs[slot], cs[slot], ds[slot]);
+                } else {
+                    sb.setLength(0);
+                    format(sb, types[slot], times[slot], texts[slot], as[slot], bs[slot], cs[slot], ds[slot]);
+                    emit();
+                }
+                texts[slot] = null;
+                sequences.lazySet(slot, next + mask + 1);
+                next++;
+                head = next;
+                continue;
+            }
+            // Fila vazia: descarrega a saída e para até o próximo registro (ou close())
+            flushOut();
+            if (closed && tail.get() == next) break;
+            parked = true;
+            if (sequences.get(slot) != next + 1 && !closed) {
+                LockSupport.park(this);
+            }
+            parked = false;
+        }
+        flushOut();
+        if (closeOut) {
+            try {
+                out.close();
+            } catch (IOException e) {
+                System.err.println("Erro ao fechar o rastro: " + e.getMessage());
+            }
+        }
+    }
+
+    private void emit() {
+        try {
+            sb.append('\n');
+            out.append(sb);
+        } catch (IOException e) {
+            System.err.println("Erro ao escrever o rastro: " + e.getMessage());
+        }
+    }
+
+    private void flushOut() {
+        if (out == null) return;
+        try {
+            out.flush();
+        } catch (IOException e) {
+            System.err.println("Erro ao escrever o rastro: " + e.getMessage());
+        }
+    }
+
+    // Formata um registro (mesmas mensagens do antigo log no console)
+    static void format(StringBuilder sb, int type, int time, String text, int a, int b, int c, int d) {
+        switch (type) {
+            case START:
+                sb.append("Simulação iniciando com o escalonador ").append(text).append("...");
+                break;
+            case FINISHED:
+                sb.append("All processes finished at t=").append(time);
+                break;
+            case STOPPED:
+                sb.append("Simulação encerrada em t=").append(time);
+                break;
+            case GANTT_FILE:
+                sb.append("Gantt gerado: ").append(text).append(" (").append(a).append(" eventos)");
+                break;
+            case RUN:
+                tick(sb, time).append("Running ");
+                padRight(sb, text, 4);
+                sb.append(" (runtime=").append(a).append('/').append(b)
+                  .append(", q=").append(c).append('/').append(d).append(')');
+                break;
+            case RUN_SLICE:
+                tick(sb, time).append("Running ");
+                padRight(sb, text, 4);
+                sb.append(" por ").append(a).append(" ticks (runtime=").append(b).append('/').append(c).append(')');
+                break;
+            case IDLE:
+                tick(sb, time).append("CPU Idle");
+                break;
+            case IDLE_UNTIL:
+                tick(sb, time).append("CPU Idle até t=");
+                twoDigits(sb, a);
+                break;
+            case SWITCH:
+                tick(sb, time).append("Context switch → ").append(text != null ? text : "CPU Idle");
+                break;
+            case GANTT:
+                sb.append("Gantt Event recorded: ").append(text).append(": ").append(a).append('-').append(b);
+                break;
+            case GANTT_SKIP:
+                sb.append("Gantt Event skipped - invalid: ").append(text)
+                  .append(" from ").append(a).append(" to ").append(b);
+                break;
+            case IO_BLOCK:
+                tick(sb, time);
+                padRight(sb, text, 4);
+                sb.append(" bloqueado em E/S até t=");
+                twoDigits(sb, a);
+                break;
+            case IO_DONE:
+                tick(sb, time);
+                padRight(sb, text, 4);
+                sb.append(" terminou a E/S");
+                break;
+            case CHECKPOINT:
+                sb.append("Checkpoint gravado em t=").append(time).append(": ").append(text);
+                break;
+            default:
+                sb.append("[t=").append(time).append("] ").append(text);
+        }
+    }
+
+    private static StringBuilder tick(StringBuilder sb, int time) {
+        sb.append("[t=");
+        twoDigits(sb, time);
+        return sb.append("] ");
+    }
+
+    private static void twoDigits(StringBuilder sb, int value) {
+        if (value >= 0 && value < 10) sb.append('0');
+        sb.append(value);
+    }
+
+    private static void padRight(StringBuilder sb, String text, int width) {
+        String s = String.valueOf(text);
+        sb.append(s);
+        for (int i = s.length(); i < width; i++) sb.append(' ');
+    }
+
+    // Console: não deve ser fechado junto com o rastro
+    private static final class ConsoleWriter extends OutputStreamWriter {
+        ConsoleWriter(PrintStream stream) {
+            super(stream);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package model;
+
+/**
+ * VirtualClock - Relógio de tempo virtual para execuções sem interface.
+ * Não dorme entre ticks: avança em lotes (advance) tão rápido quanto os listeners os
+ * processam e termina quando algum listener chama stop() (ex.: fim da simulação).
+ */
+public class VirtualClock extends SystemClock {
+    // Ticks por chamada de advance(): os listeners processam o lote de uma vez
+    private static final int BATCH = 1024;
+
+    private Thread runThread;
+
+    public VirtualClock() {
+        super(1L);
+    }
+
+    /**
+     * Executa os ticks na thread atual e bloqueia até o stop().
+     */
+    @Override
+    public void runToCompletion() {
+        synchronized (this) {
+            if (running) {
+                return;
+            }
+            running = true;
+            markStarted();
+        }
+        while (running) {
+            advance(BATCH);
+        }
+    }
+
+    /**
+     * Executa os ticks em uma thread própria, sem intervalo entre eles.
+     */
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        markStarted();
+        runThread = new Thread(() -> {
+            while (running) {
+                advance(BATCH);
+            }
+        }, "Virtual-Clock-Thread");
+        runThread.setDaemon(true);
+        runThread.start();
+    }
+
+    @Override
+    public void stop() {
+        Thread thread;
+        synchronized (this) {
+            super.stop();
+            thread = runThread;
+            runThread = null;
+        }
+        // Espera a thread terminar o tick em andamento (exceto se o stop vier dela mesma)
+        if (thread != null && thread != Thread.currentThread()) {
+            try {
+                thread.join(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
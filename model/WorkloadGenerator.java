@@ -0,0 +1,309 @@
+package model;
+
+import java.io.IOException;
+
+/**
+ * WorkloadGenerator - Carga sintética gerada sob demanda, já em ordem de ingresso.
+ * Ingressos Poisson ou em rajadas (Poisson modulado por dois estados), durações com
+ * cauda pesada (Pareto) e prioridades concentradas (Zipf). Cada atributo usa seu próprio
+ * fluxo SplitMix64 derivado da semente, então a mesma semente gera sempre a mesma carga.
+ * Nada é guardado além do próximo processo: com o controlador liberando as linhas
+ * concluídas, a memória fica constante qualquer que seja o número de processos.
+ */
+public class WorkloadGenerator implements ProcessSource {
+    // Modelos de ingresso
+    public static final int POISSON = 0;
+    public static final int BURSTY = 1;
+
+    // Largura dos ids ("p0000000042"): a ordem alfabética coincide com a de geração
+    private static final int ID_DIGITS = 10;
+
+    private final Builder params;
+    // Estado inicial do fluxo raiz (a semente, ou o fluxo de uma réplica): restart() volta a ele
+    private final long rootSeed;
+    private final long rootGamma;
+    private final SplitMix64 root;
+    private final SplitMix64 arrivalRandom;
+    private final SplitMix64 durationRandom;
+    private final SplitMix64 priorityRandom;
+
+    // Distribuição acumulada das prioridades (Zipf)
+    private final double[] priorityCdf;
+
+    // Estado da geração
+    private long generated;
+    private double clock;
+    private boolean inBurst;
+    private double stateLeft;
+
+    // Próximo processo (já sorteado)
+    private boolean hasPending;
+    private int pendingStart;
+
+    private WorkloadGenerator(Builder params, SplitMix64 root) {
+        this.params = params;
+        this.rootSeed = root.getSeed();
+        this.rootGamma = root.getGamma();
+        this.root = root;
+        this.arrivalRandom = root.split();
+        this.durationRandom = root.split();
+        this.priorityRandom = root.split();
+        this.priorityCdf = zipfCdf(params.priorityLevels, params.zipfExponent);
+        this.stateLeft = params.arrivalModel == BURSTY ? exponential(1.0 / params.calmLength) : Double.MAX_VALUE;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Mesma carga desde o início (mesmo fluxo raiz; numa réplica, o da réplica), para outra execução.
+     */
+    @Override
+    public WorkloadGenerator restart() {
+        return new WorkloadGenerator(params, new SplitMix64(rootSeed, rootGamma));
+    }
+
+    /**
+     * Réplica independente: mesmas distribuições, outro fluxo aleatório. Avança o
+     * gerador raiz, então deve ser chamado por uma única thread que distribui as réplicas.
+     */
+    public WorkloadGenerator split() {
+        return new WorkloadGenerator(params, root.split());
+    }
+
+    public long getGenerated() {
+        return generated;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!hasPending && generated < params.processes) {
+            pendingStart = nextArrival();
+            hasPending = pendingStart >= 0;
+        }
+        return hasPending;
+    }
+
+    @Override
+    public int peekStartTime() {
+        return pendingStart;
+    }
+
+    @Override
+    public int next(ProcessTable table) {
+        if (!hasNext()) {
+            return ProcessTable.NONE;
+        }
+        hasPending = false;
+        long n = generated++;
+        return table.add(id(n), (int) (n % 6), pendingStart, nextDuration(), nextPriority());
+    }
+
+    @Override
+    public boolean supportsCheckpoint() {
+        return true;
+    }
+
+    /**
+     * Checkpoint: fluxo raiz inicial (identifica a réplica), estado dos três fluxos aleatórios
+     * (seed e gamma) e do processo de chegadas. Restaurar não regera os processos já entregues.
+     */
+    @Override
+    public void writeState(StateWriter out) throws IOException {
+        out.writeLong(params.seed);
+        out.writeLong(params.processes);
+        out.writeLong(rootSeed);
+        out.writeLong(rootGamma);
+        for (SplitMix64 random : new SplitMix64[]{arrivalRandom, durationRandom, priorityRandom}) {
+            out.writeLong(random.getSeed());
+            out.writeLong(random.getGamma());
+        }
+        out.writeLong(generated);
+        out.writeDouble(clock);
+        out.writeBoolean(inBurst);
+        out.writeDouble(stateLeft);
+        out.writeBoolean(hasPending);
+        out.writeInt(pendingStart);
+    }
+
+    @Override
+    public void readState(StateReader in) throws IOException {
+        if (in.readLong() != params.seed || in.readLong() != params.processes) {
+            throw new IOException("Checkpoint de outra carga sintética.");
+        }
+        // Até a versão 2 só havia o gerador raiz: o fluxo inicial era o da semente
+        SplitMix64 seedRoot = new SplitMix64(params.seed);
+        long savedSeed = in.getVersion() >= 3 ? in.readLong() : seedRoot.getSeed();
+        long savedGamma = in.getVersion() >= 3 ? in.readLong() : seedRoot.getGamma();
+        if (savedSeed != rootSeed || savedGamma != rootGamma) {
+            throw new IOException("Checkpoint de outra réplica da carga sintética.");
+        }
+        for (SplitMix64 random : new SplitMix64[]{arrivalRandom, durationRandom, priorityRandom}) {
+            random.setState(in.readLong(), in.readLong());
+        }
+        generated = in.readLong();
+        clock = in.readDouble();
+        inBurst = in.readBoolean();
+        stateLeft = in.readDouble();
+        hasPending = in.readBoolean();
+        pendingStart = in.readInt();
+    }
+
+    // Tempo de ingresso do próximo processo (-1 se passar do limite de um int)
+    private int nextArrival() {
+        if (params.arrivalModel == BURSTY) {
+            // Poisson com taxa alta dentro das rajadas e taxa base fora delas
+            while (true) {
+                double rate = inBurst ? params.burstRate : params.arrivalRate;
+                double gap = rate > 0 ? exponential(rate) : Double.MAX_VALUE;
+                if (gap < stateLeft) {
+                    stateLeft -= gap;
+                    clock += gap;
+                    break;
+                }
+                clock += stateLeft;
+                inBurst = !inBurst;
+                stateLeft = exponential(1.0 / (inBurst ? params.burstLength : params.calmLength));
+            }
+        } else {
+            clock += exponential(params.arrivalRate);
+        }
+        return clock < Integer.MAX_VALUE ? (int) clock : -1;
+    }
+
+    private double exponential(double rate) {
+        return -Math.log(arrivalRandom.nextDoubleNonZero()) / rate;
+    }
+
+    // Pareto(alpha, mínimo), arredondada para cima e limitada ao máximo
+    private int nextDuration() {
+        double x = params.minDuration / Math.pow(durationRandom.nextDoubleNonZero(), 1.0 / params.paretoAlpha);
+        return (int) Math.min(params.maxDuration, Math.ceil(x));
+    }
+
+    // Zipf: prioridade 1 é a mais frequente, priorityLevels a mais rara
+    private int nextPriority() {
+        double u = priorityRandom.nextDouble();
+        int lo = 0, hi = priorityCdf.length - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (priorityCdf[mid] > u) hi = mid; else lo = mid + 1;
+        }
+        return lo + 1;
+    }
+
+    private static double[] zipfCdf(int levels, double exponent) {
+        double[] cdf = new double[levels];
+        double sum = 0;
+        for (int k = 1; k <= levels; k++) {
+            sum += 1.0 / Math.pow(k, exponent);
+            cdf[k - 1] = sum;
+        }
+        for (int k = 0; k < levels; k++) {
+            cdf[k] /= sum;
+        }
+        cdf[levels - 1] = 1.0;
+        return cdf;
+    }
+
+    private static String id(long n) {
+        char[] chars = new char[ID_DIGITS + 1];
+        chars[0] = 'p';
+        for (int i = ID_DIGITS; i > 0; i--) {
+            chars[i] = (char) ('0' + n % 10);
+            n /= 10;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Parâmetros da carga. Padrão: Poisson com 0.1 processo por tick, Pareto(1.5) entre
+     * 1 e 1000 ticks e 10 níveis de prioridade com Zipf(1.0).
+     */
+    public static class Builder {
+        private long seed = 42L;
+        private long processes = 1000;
+        private int arrivalModel = POISSON;
+        private double arrivalRate = 0.1;
+        private double burstRate;
+        private double burstLength;
+        private double calmLength;
+        private double paretoAlpha = 1.5;
+        private int minDuration = 1;
+        private int maxDuration = 1000;
+        private int priorityLevels = 10;
+        private double zipfExponent = 1.0;
+
+        public Builder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public Builder processes(long processes) {
+            this.processes = processes;
+            return this;
+        }
+
+        // Ingressos Poisson com rate processos por tick (em média)
+        public Builder poisson(double rate) {
+            this.arrivalModel = POISSON;
+            this.arrivalRate = rate;
+            return this;
+        }
+
+        // Rajadas: burstRate processos/tick durante ~burstLength ticks, baseRate no intervalo de ~calmLength
+        public Builder bursty(double baseRate, double burstRate, double burstLength, double calmLength) {
+            this.arrivalModel = BURSTY;
+            this.arrivalRate = baseRate;
+            this.burstRate = burstRate;
+            this.burstLength = burstLength;
+            this.calmLength = calmLength;
+            return this;
+        }
+
+        public Builder pareto(double alpha, int minDuration, int maxDuration) {
+            this.paretoAlpha = alpha;
+            this.minDuration = minDuration;
+            this.maxDuration = maxDuration;
+            return this;
+        }
+
+        public Builder zipf(int levels, double exponent) {
+            this.priorityLevels = levels;
+            this.zipfExponent = exponent;
+            return this;
+        }
+
+        public WorkloadGenerator build() {
+            if (processes < 0) {
+                throw new IllegalArgumentException("Número de processos inválido: " + processes);
+            }
+            if (arrivalModel == POISSON ? arrivalRate <= 0
+                    : (arrivalRate < 0 || burstRate <= 0 || burstLength <= 0 || calmLength <= 0)) {
+                throw new IllegalArgumentException("Parâmetros de ingresso inválidos.");
+            }
+            if (paretoAlpha <= 0 || minDuration < 1 || maxDuration < minDuration) {
+                throw new IllegalArgumentException("Parâmetros de duração inválidos.");
+            }
+            if (priorityLevels < 1 || zipfExponent < 0) {
+                throw new IllegalArgumentException("Parâmetros de prioridade inválidos.");
+            }
+            // Cópia dos parâmetros: o builder pode ser reaproveitado sem afetar o gerador
+            Builder copy = new Builder();
+            copy.seed = seed;
+            copy.processes = processes;
+            copy.arrivalModel = arrivalModel;
+            copy.arrivalRate = arrivalRate;
+            copy.burstRate = burstRate;
+            copy.burstLength = burstLength;
+            copy.calmLength = calmLength;
+            copy.paretoAlpha = paretoAlpha;
+            copy.minDuration = minDuration;
+            copy.maxDuration = maxDuration;
+            copy.priorityLevels = priorityLevels;
+            copy.zipfExponent = zipfExponent;
+            return new WorkloadGenerator(copy, new SplitMix64(seed));
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package test;
 
 import model.*;
+import controller.MultiCpuController;
 import controller.SimController;
+import view.SimulationWorker;
 
 public class Tester {
     public static void main(String[] args) throws Exception {
@@ -17,6 +19,25 @@ public class Tester {
         clock.reset();
         System.out.println("After reset, time = " + clock.getCurrentTime());
 
+        System.out.println("\n=== TICK LISTENER TEST ===");
+        StringBuilder seen = new StringBuilder();
+        clock.addListener(time -> seen.append(time).append(' '));
+        clock.advance(3);
+        clock.tick();
+        // Esperado: 1 2 3 4 (o listener Runnable acima também imprime cada tick)
+        System.out.println("Recebidos: " + seen.toString().trim() + " (t=" + clock.getCurrentTime() + ")");
+        clock.reset();
+
+        System.out.println("\n=== PACED CLOCK TEST ===");
+        SystemClock paced = new SystemClock(10);
+        paced.setSpeed(5); // 2 ms por tick
+        paced.setCatchUp(SystemClock.CATCH_UP_SKIP, 0);
+        paced.start();
+        Thread.sleep(1000);
+        paced.stop();
+        System.out.printf("Alvo: %.0f ticks/s, atingido: %.0f ticks/s, descartados: %d%n",
+                paced.getTargetTicksPerSecond(), paced.getTicksPerSecond(), paced.getSkippedTicks());
+
         System.out.println("\n=== CONFIG PARSER TEST ===");
         ConfigParser parser = new ConfigParser();
         SimulationConfig config = parser.parse("config/test.txt");
@@ -29,7 +50,9 @@ public class Tester {
         }
 
         System.out.println("\n=== CLOCK + CONTROLLER TEST ===");
+        TraceSink console = TraceSink.toConsole(TraceSink.FULL);
         SimController controller = new SimController(new SystemClock(500), config);
+        controller.setTrace(console);
         controller.start();
         Thread.sleep(3000);
         controller.stop();
@@ -53,6 +76,271 @@ public class Tester {
         Thread.sleep(3000);
         FIFO.stop();
 
+        System.out.println("\n=== VIRTUAL CLOCK TEST ===");
+        SimulationConfig fresh = parser.parse("config/test.txt");
+        SimController virtual = new SimController(new VirtualClock(), fresh);
+        virtual.runToCompletion();
+        System.out.println("Finished: " + virtual.isFinished() + " at t=" + virtual.getCurrentTime()
+                + " (" + (long) virtual.getClock().getTicksPerSecond() + " ticks/s)");
+
+        System.out.println("\n=== TRACE SINK TEST ===");
+        TraceSink ring = TraceSink.toRing(TraceSink.FULL, 5);
+        SimController traced = new SimController(new VirtualClock(), parser.parse("config/test.txt"));
+        traced.setTrace(ring);
+        traced.setGanttOutput(null);
+        traced.runToCompletion();
+        for (String line : ring.getLines()) {
+            System.out.println(" | " + line);
+        }
+        System.out.println("Registros gravados: " + ring.getRing().getTotal() + ", guardados: " + ring.getRing().size());
+        // Fila vazia: a thread de escrita fica parada (sem acordar a cada 1 ms) até o próximo registro
+        Thread.sleep(20);
+        boolean writerParked = false;
+        for (Thread t : Thread.getAllStackTraces().keySet()) {
+            if (t.getName().equals("Trace-Writer") && t.getState() == Thread.State.WAITING) writerParked = true;
+        }
+        System.out.println("Escritor parado com a fila vazia: " + writerParked);
+        ring.close();
+        console.close();
+
+        System.out.println("\n=== WORKLOAD GENERATOR TEST ===");
+        WorkloadGenerator generator = WorkloadGenerator.builder()
+                .seed(7).processes(10000).poisson(0.09).pareto(1.5, 1, 1000).zipf(10, 1.0).build();
+        SimulationConfig generated = SimulationConfig.builder().algorithm("SRTF").quantum(4).source(generator).build();
+        SimController[] runs = new SimController[2];
+        for (int i = 0; i < runs.length; i++) {
+            // A segunda execução reinicia a fonte: mesma semente, mesma carga
+            runs[i] = new SimController(new VirtualClock(), i == 0 ? generated : generated.withRun("SRTF", 4));
+            runs[i].setRecordGantt(false);
+            runs[i].runEventDriven();
+        }
+        System.out.println("Processes: " + runs[0].getArrivedCount() + ", final t=" + runs[0].getCurrentTime()
+                + ", table rows: " + runs[0].getProcessTable().size()
+                + ", repeatable: " + (runs[0].getTotalWait() == runs[1].getTotalWait()));
+        // Uma réplica reinicia no próprio fluxo, não no da semente
+        WorkloadGenerator replica = generator.split();
+        SimController[] replicaRuns = new SimController[2];
+        for (int i = 0; i < replicaRuns.length; i++) {
+            replicaRuns[i] = new SimController(new VirtualClock(), SimulationConfig.builder()
+                    .algorithm("SRTF").quantum(4).source(i == 0 ? replica : replica.restart()).build());
+            replicaRuns[i].setRecordGantt(false);
+            replicaRuns[i].runEventDriven();
+        }
+        System.out.println("Replica repeatable: " + (replicaRuns[0].getTotalWait() == replicaRuns[1].getTotalWait())
+                + ", differs from root: " + (replicaRuns[0].getTotalWait() != runs[0].getTotalWait()));
+
+        System.out.println("\n=== SCHEDULING STATS TEST ===");
+        System.out.print(runs[0].getStats().formatTable());
+
+        System.out.println("\n=== SCHEDULE TRACE TEST ===");
+        java.io.File traceFile = java.io.File.createTempFile("schedule", ".sch");
+        traceFile.deleteOnExit();
+        SimController recorded = new SimController(new VirtualClock(), parser.parse("config/test.txt"));
+        recorded.setGanttOutput(null);
+        try (ScheduleTraceWriter writer = ScheduleTraceWriter.open(traceFile.getPath(), "PRIOP", 5)) {
+            recorded.setScheduleTrace(writer);
+            recorded.runToCompletion();
+        }
+        GanttChart replayed = new GanttChart();
+        RunSummary summary;
+        try (ScheduleTraceReader reader = ScheduleTraceReader.open(traceFile.getPath())) {
+            summary = reader.replay(replayed);
+        }
+        System.out.println("Recorded: " + recorded.getSummary());
+        System.out.println("Replayed: " + summary + " (" + traceFile.length() + " bytes)");
+        System.out.println("Same Gantt: " + recorded.getGanttChart().getEvents().toString()
+                .equals(replayed.getEvents().toString()));
+        System.out.println("Same stats: " + recorded.getStats().formatTable().equals(summary.getStats().formatTable()));
+
+        System.out.println("\n=== METRICS TEST ===");
+        MetricsRegistry metrics = new MetricsRegistry();
+        SimController measured = new SimController(new VirtualClock(), parser.parse("config/test.txt"));
+        measured.setGanttOutput(null);
+        measured.setMetrics(metrics);
+        measured.runToCompletion();
+        System.out.print(metrics.toJson());
+
+        System.out.println("\n=== RR / MLFQ TEST ===");
+        for (String algorithm : new String[]{"RR", "MLFQ"}) {
+            SimulationConfig levelsConfig = SimulationConfig.builder().algorithm(algorithm).quantums(2, 4, 8)
+                    .process("A", 1, 0, 20, 1)
+                    .process("B", 2, 5, 3, 1)
+                    .process("C", 3, 6, 6, 1, "IO:1-3")
+                    .build();
+            SimController levelsController = new SimController(new VirtualClock(), levelsConfig);
+            levelsController.setGanttOutput(null);
+            levelsController.runEventDriven();
+            System.out.println(levelsController.getSummary() + " | Gantt: " + levelsController.getGanttChart().getEvents().size() + " intervalos");
+        }
+
+        System.out.println("\n=== CFS TEST ===");
+        for (boolean wakeupPreemption : new boolean[]{true, false}) {
+            SimulationConfig cfsConfig = SimulationConfig.builder().algorithm("CFS").quantum(2)
+                    .process("A", 1, 0, 30, 0)
+                    .process("B", 2, 0, 30, 5)
+                    .process("C", 3, 12, 4, 0, "IO:2-3")
+                    .build();
+            SimController cfsController = new SimController(new VirtualClock(), cfsConfig);
+            cfsController.setGanttOutput(null);
+            ((CFS) cfsController.getScheduler()).setWakeupPreemption(wakeupPreemption);
+            cfsController.runEventDriven();
+            ProcessTable cfsTable = cfsController.getProcessTable();
+            System.out.println("Preempção na chegada " + (wakeupPreemption ? "ligada" : "desligada") + ": "
+                    + cfsController.getSummary());
+            for (int h = 0; h < cfsTable.size(); h++) {
+                System.out.println("  " + cfsTable.getId(h) + " peso=" + CFS.weightOf(cfsTable.getPriority(h))
+                        + " espera=" + cfsTable.getWaitTime(h));
+            }
+        }
+
+        System.out.println("\n=== TIMING WHEEL TEST ===");
+        TimingWheel wheel = new TimingWheel();
+        int[] dueTimes = {70000, 5, 300, 5, 1 << 20, 2};
+        for (int i = 0; i < dueTimes.length; i++) {
+            wheel.schedule(dueTimes[i], i);
+        }
+        StringBuilder order = new StringBuilder();
+        int payload;
+        while ((payload = wheel.poll(Integer.MAX_VALUE - 1)) != TimingWheel.NONE) {
+            order.append(dueTimes[payload]).append(' ');
+        }
+        // Esperado: 2 5 5 300 70000 1048576
+        System.out.println("Ordem dos vencimentos: " + order.toString().trim());
+
+        System.out.println("\n=== I/O EVENTS TEST ===");
+        SimulationConfig ioConfig = SimulationConfig.builder().algorithm("FIFO").quantum(10)
+                .process("p1", 1, 0, 4, 1, "IO:2-3")
+                .process("p2", 2, 0, 3, 1, "")
+                .build();
+        SimController ioController = new SimController(new VirtualClock(), ioConfig);
+        ioController.setGanttOutput(null);
+        ioController.runEventDriven();
+        // p1 roda 1-2, espera o IO em 3-5 enquanto p2 roda, e termina em 6-7
+        System.out.println(ioController.getSummary());
+        System.out.println("Gantt: " + ioController.getGanttChart().getEvents().size() + " intervalos (esperado 3), "
+                + "IO ocupado " + ioController.getIoDevices().getBusyTicks(0) + " ticks (esperado 3)");
+
+        System.out.println("\n=== TICK VS EVENT TEST ===");
+        // z tem duração 0: termina ao chegar, sem ocupar a CPU, nos dois modos
+        String[] modes = new String[2];
+        for (int i = 0; i < modes.length; i++) {
+            SimController engine = new SimController(new VirtualClock(), SimulationConfig.builder()
+                    .algorithm("FIFO").quantum(2)
+                    .process("a", 1, 0, 3, 1)
+                    .process("z", 2, 1, 0, 1)
+                    .process("b", 3, 2, 2, 1)
+                    .build());
+            engine.setGanttOutput(null);
+            if (i == 0) engine.runToCompletion(); else engine.runEventDriven();
+            modes[i] = engine.getSummary() + " " + engine.getGanttChart().getEvents();
+        }
+        System.out.println(modes[0]);
+        System.out.println("Igual no modo por eventos: " + modes[0].equals(modes[1]));
+        // Dois processos distintos com o mesmo id, um logo após o outro: duas barras
+        SimController sameId = new SimController(new VirtualClock(), SimulationConfig.builder()
+                .algorithm("FIFO").quantum(2)
+                .process("p", 1, 0, 2, 1)
+                .process("p", 1, 0, 3, 1)
+                .build());
+        sameId.setGanttOutput(null);
+        sameId.runToCompletion();
+        System.out.println("Mesmo id em sequência: " + sameId.getGanttChart().getEvents()
+                + " -> " + (sameId.getGanttChart().getEventCount() == 2));
+
+        System.out.println("\n=== MULTI-CPU TEST ===");
+        MultiCpuController multi = new MultiCpuController(parser.parse("config/test.txt"), 2);
+        multi.setThreads(2);
+        System.out.println(multi.run());
+        System.out.println("CPU0 ocupada: " + multi.getBusyTicks(0) + " ticks, CPU1: " + multi.getBusyTicks(1)
+                + " ticks, migrações: " + multi.getMigrations());
+        // Processo de duração 0 termina na chegada (antes o laço da CPU não saía do tick)
+        MultiCpuController withEmpty = new MultiCpuController(SimulationConfig.builder().algorithm("FIFO").quantum(2)
+                .process("a", 1, 0, 3, 1)
+                .process("z", 2, 1, 0, 1)
+                .process("b", 3, 2, 2, 1)
+                .build(), 2);
+        System.out.println("Com duração 0: " + withEmpty.run());
+        // A migração leva o nível do MLFQ e o vruntime do CFS para a outra fila
+        ProcessTable migrating = new ProcessTable();
+        int a = migrating.add("A", 1, 0, 20, 0);
+        int b = migrating.add("B", 2, 0, 20, 0);
+        MLFQ mlfqFrom = new MLFQ(new int[]{2, 4, 8}), mlfqTo = new MLFQ(new int[]{2, 4, 8});
+        CFS cfsFrom = new CFS(2), cfsTo = new CFS(2);
+        for (Scheduler s : new Scheduler[]{mlfqFrom, mlfqTo, cfsFrom, cfsTo}) s.bind(migrating);
+        mlfqFrom.onArrival(a);
+        cfsFrom.onArrival(a);
+        cfsFrom.onArrival(b);
+        mlfqFrom.pickNext(0);
+        cfsFrom.pickNext(0);
+        migrating.executeTicks(a, 2);
+        mlfqFrom.onPreempt(a);
+        cfsFrom.onPreempt(a);
+        double vruntime = cfsFrom.getVruntime(a);
+        cfsFrom.pickNext(2); // B executa, A fica pronto
+        int moved = mlfqFrom.migrateOut(2);
+        mlfqTo.migrateIn(moved, mlfqFrom.migrationState(moved));
+        moved = cfsFrom.migrateOut(2);
+        cfsTo.migrateIn(moved, cfsFrom.migrationState(moved));
+        System.out.println("MLFQ nível migrado: " + mlfqTo.getLevel(a) + ", CFS vruntime " + vruntime
+                + " -> " + cfsTo.getVruntime(a));
+        // Processos com E/S não rodam em várias CPUs
+        SimulationConfig withIo = SimulationConfig.builder().algorithm("RR").quantum(2)
+                .process("A", 1, 0, 6, 1, "IO:1-3").build();
+        try {
+            new MultiCpuController(withIo, 2).run();
+            System.out.println("E/S aceita (erro)");
+        } catch (IllegalArgumentException e) {
+            System.out.println("E/S rejeitada: " + e.getMessage());
+        }
+
+        System.out.println("\n=== CHECKPOINT TEST ===");
+        SimController uninterrupted = new SimController(new VirtualClock(), parser.parse("config/test.txt"));
+        uninterrupted.setGanttOutput(null);
+        uninterrupted.runToCompletion();
+        java.io.File checkpointFile = java.io.File.createTempFile("sim", ".ckpt");
+        SimController interrupted = new SimController(new VirtualClock(), parser.parse("config/test.txt"));
+        interrupted.setGanttOutput(null);
+        for (int i = 0; i < 4; i++) {
+            interrupted.step();
+        }
+        interrupted.checkpoint(checkpointFile.getPath());
+        SimController resumed = new SimController(new VirtualClock(), parser.parse("config/test.txt"));
+        resumed.setGanttOutput(null);
+        resumed.restore(checkpointFile.getPath());
+        System.out.println("Retomado em t=" + resumed.getCurrentTime() + " (" + checkpointFile.length() + " bytes)");
+        resumed.runEventDriven();
+        System.out.println(resumed.getSummary());
+        System.out.println("Igual à execução sem interrupção: " + (uninterrupted.getSummary().toString()
+                .equals(resumed.getSummary().toString()) && uninterrupted.getGanttChart().getEvents().toString()
+                .equals(resumed.getGanttChart().getEvents().toString())
+                && uninterrupted.getStats().formatTable().equals(resumed.getStats().formatTable())));
+        checkpointFile.delete();
+        // Fonte sem supportsCheckpoint: falha ao configurar, não no meio da simulação
+        ProcessSource opaque = new ProcessSource() {
+            public boolean hasNext() { return false; }
+            public int peekStartTime() { return 0; }
+            public int next(ProcessTable table) { return ProcessTable.NONE; }
+            public ProcessSource restart() { return this; }
+        };
+        SimController unsupported = new SimController(new VirtualClock(),
+                SimulationConfig.builder().algorithm("RR").quantum(2).source(opaque).build());
+        try {
+            unsupported.setCheckpointInterval(2, checkpointFile.getPath());
+            System.out.println("Checkpoint aceito (erro)");
+        } catch (java.io.IOException e) {
+            System.out.println("Checkpoint recusado: " + e.getMessage());
+        }
+
+        System.out.println("\n=== SIMULATION WORKER TEST ===");
+        SimController background = new SimController(new SystemClock(), parser.parse("config/test.txt"));
+        background.setGanttOutput(null);
+        SimulationWorker worker = new SimulationWorker(background, 0);
+        worker.start();
+        worker.join();
+        System.out.println(background.getSummary());
+        System.out.println("Igual ao relógio virtual: " + (background.getCurrentTime() == uninterrupted.getCurrentTime()
+                && background.getGanttChart().getEvents().toString().equals(uninterrupted.getGanttChart().getEvents().toString())));
+
         System.out.println("\n=== ALL TESTS COMPLETED ===");
     }
 }
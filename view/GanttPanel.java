@@ -0,0 +1,359 @@
+package view;
+
+import model.GanttChart;
+import model.GanttSvgWriter;
+import javax.swing.*;
+import java.awt.*;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.MouseWheelEvent;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * GanttPanel - Gantt ao vivo desenhado a partir do GanttChart, com buffer de imagem.
+ * A cada atualização só os intervalos novos são pintados no buffer; rolar ou mudar o zoom
+ * redesenha só a janela visível (o primeiro intervalo visível sai de uma busca binária).
+ * O intervalo em andamento e a marca do tempo atual são desenhados por cima do buffer.
+ * Roda do mouse rola no tempo, Ctrl + roda muda o zoom, arrastar move a janela e um
+ * duplo clique volta a acompanhar o fim. Com muitos processos, vizinhos dividem a linha.
+ * Deve ser usado só na thread do Swing; se a simulação roda em outra thread, setLock recebe
+ * o lock que ela segura durante os ticks e o GanttChart só é lido com ele.
+ */
+public class GanttPanel extends JPanel {
+    private static final int LABEL_WIDTH = 70;
+    private static final int AXIS_HEIGHT = 18;
+    // Alturas de linha possíveis (potências de 2: mudam pouco conforme chegam processos)
+    private static final int MAX_ROW_HEIGHT = 16;
+    private static final int MIN_ROW_HEIGHT = 2;
+    private static final int MIN_AXIS_SPACING = 60;
+    private static final double MIN_ZOOM = 1.0 / 65536;
+    private static final double MAX_ZOOM = 64;
+
+    private final GanttChart chart;
+    private final Timeline timeline = new Timeline();
+    private final JScrollBar scrollBar = new JScrollBar(JScrollBar.HORIZONTAL);
+    private final Map<String, Color> colors = new HashMap<>();
+    private Lock lock;
+
+    // Janela visível: pixels por tick e tick na borda esquerda
+    private double zoom = 8;
+    private int viewStart;
+    private boolean follow = true;
+
+    // Tempo simulado e intervalo em andamento (ainda não registrado no GanttChart)
+    private int end;
+    private String runningId;
+    private int runningStart;
+    private int runningColor;
+
+    // Buffer e o que já foi pintado nele
+    private BufferedImage buffer;
+    private boolean stale = true;
+    private int paintedEvents;
+    private int paintedLanes;
+    private int lanesPerRow = 1;
+    private int rowHeight = MAX_ROW_HEIGHT;
+    private boolean syncing;
+
+    public GanttPanel(GanttChart chart) {
+        super(new BorderLayout());
+        this.chart = chart;
+        setBackground(Color.WHITE);
+        add(timeline, BorderLayout.CENTER);
+        add(scrollBar, BorderLayout.SOUTH);
+        scrollBar.addAdjustmentListener(e -> {
+            if (!syncing) scrollTo(e.getValue());
+        });
+
+        MouseAdapter mouse = new MouseAdapter() {
+            private int dragX;
+
+            @Override
+            public void mousePressed(MouseEvent e) {
+                dragX = e.getX();
+            }
+
+            @Override
+            public void mouseDragged(MouseEvent e) {
+                int ticks = (int) ((dragX - e.getX()) / zoom);
+                if (ticks != 0) {
+                    dragX = e.getX();
+                    scrollTo(viewStart + ticks);
+                }
+            }
+
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (e.getClickCount() == 2) {
+                    follow = true;
+                    scrollTo(Math.max(0, end - visibleTicks() / 4));
+                }
+            }
+
+            @Override
+            public void mouseWheelMoved(MouseWheelEvent e) {
+                if (e.isControlDown()) {
+                    zoomAt(e.getX(), Math.pow(1.25, -e.getPreciseWheelRotation()));
+                } else {
+                    scrollTo(viewStart + (int) Math.round(e.getPreciseWheelRotation() * Math.max(1, visibleTicks() / 10)));
+                }
+            }
+        };
+        timeline.addMouseListener(mouse);
+        timeline.addMouseMotionListener(mouse);
+        timeline.addMouseWheelListener(mouse);
+    }
+
+    /**
+     * Atualiza o tempo simulado (ticks 1..time já executados) e o processo em execução desde
+     * runningStart (null com a CPU ociosa). Acompanhando o fim, a janela salta quando ele sai
+     * da tela; o resto é só pintar os intervalos novos no próximo repaint.
+     */
+    public void update(int time, String runningId, int runningStart, int runningColor) {
+        this.end = time > 0 ? time + 1 : 0;
+        this.runningId = runningId;
+        this.runningStart = runningStart;
+        this.runningColor = runningColor;
+        if (follow && end > viewStart + visibleTicks()) {
+            viewStart = Math.max(0, end - visibleTicks() / 4);
+            stale = true;
+        }
+        syncScrollBar();
+        timeline.repaint();
+    }
+
+    // Lock da thread da simulação (null = a simulação roda na thread do Swing)
+    public void setLock(Lock lock) {
+        this.lock = lock;
+    }
+
+    // Pixels por tick (o zoom inicial é 8)
+    public void setZoom(double zoom) {
+        this.zoom = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom));
+        stale = true;
+        syncScrollBar();
+        timeline.repaint();
+    }
+
+    public double getZoom() { return zoom; }
+
+    private void zoomAt(int x, double factor) {
+        // Mantém parado o tick sob o mouse
+        double anchor = viewStart + Math.max(0, x - LABEL_WIDTH) / zoom;
+        zoom = Math.max(MIN_ZOOM, Math.min(MAX_ZOOM, zoom * factor));
+        stale = true;
+        scrollTo((int) Math.max(0, anchor - Math.max(0, x - LABEL_WIDTH) / zoom));
+        timeline.repaint();
+    }
+
+    private void scrollTo(int start) {
+        start = Math.max(0, Math.min(start, Math.max(0, end - 1)));
+        if (start != viewStart) {
+            viewStart = start;
+            stale = true;
+        }
+        // Rolar até o fim volta a acompanhar a simulação
+        follow = viewStart + visibleTicks() >= end;
+        syncScrollBar();
+        timeline.repaint();
+    }
+
+    private void syncScrollBar() {
+        syncing = true;
+        int visible = visibleTicks();
+        scrollBar.setValues(viewStart, visible, 0, Math.max(end, viewStart + visible));
+        scrollBar.setBlockIncrement(Math.max(1, visible * 3 / 4));
+        scrollBar.setUnitIncrement(Math.max(1, visible / 10));
+        syncing = false;
+    }
+
+    private int visibleTicks() {
+        int width = Math.max(1, timeline.getWidth() - LABEL_WIDTH);
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE / 2, Math.ceil(width / zoom)));
+    }
+
+    private int xOf(long time) {
+        double x = LABEL_WIDTH + (time - viewStart) * zoom;
+        return (int) Math.max(-1, Math.min(x, Integer.MAX_VALUE / 2));
+    }
+
+    private Color colorOf(int color) {
+        return colors.computeIfAbsent(GanttSvgWriter.colorOf(color), Color::decode);
+    }
+
+    /**
+     * Área do gráfico: copia o buffer e desenha por cima o intervalo em andamento.
+     */
+    private class Timeline extends JComponent {
+        Timeline() {
+            setOpaque(true);
+            setPreferredSize(new Dimension(800, 180));
+        }
+
+        @Override
+        protected void paintComponent(Graphics g) {
+            int width = Math.max(1, getWidth());
+            int height = Math.max(1, getHeight());
+            if (buffer == null || buffer.getWidth() != width || buffer.getHeight() != height) {
+                buffer = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+                stale = true;
+                syncScrollBar();
+            }
+            Lock l = lock;
+            if (l != null) l.lock();
+            Graphics2D b = buffer.createGraphics();
+            try {
+                if (stale || !layoutFits(chart.getLaneCount()) || chart.getEventCount() < paintedEvents) {
+                    renderWindow(b);
+                } else {
+                    paintNew(b);
+                }
+                g.drawImage(buffer, 0, 0, null);
+                paintRunning(g);
+            } finally {
+                b.dispose();
+                if (l != null) l.unlock();
+            }
+        }
+
+        // Redesenha a janela visível inteira: rótulos, eixo e os intervalos visíveis
+        private void renderWindow(Graphics2D b) {
+            stale = false;
+            int lanes = chart.getLaneCount();
+            layoutRows(lanes);
+            b.setColor(Color.WHITE);
+            b.fillRect(0, 0, buffer.getWidth(), buffer.getHeight());
+            paintAxis(b);
+            paintedLanes = 0;
+            paintLabels(b, lanes);
+            paintedEvents = chart.firstEventEndingAfter(viewStart);
+            paintEvents(b, paintedEvents, chart.getEventCount());
+        }
+
+        // Só o que mudou desde o último repaint: raias e intervalos novos
+        private void paintNew(Graphics2D b) {
+            paintLabels(b, chart.getLaneCount());
+            // O último intervalo pintado pode ter crescido (mesmo processo continuou)
+            paintEvents(b, Math.max(0, paintedEvents - 1), chart.getEventCount());
+        }
+
+        private void paintEvents(Graphics2D b, int from, int to) {
+            int viewEnd = viewStart + visibleTicks();
+            int barHeight = rowHeight > 4 ? rowHeight - 2 : rowHeight;
+            int plotBottom = buffer.getHeight() - AXIS_HEIGHT;
+            for (int i = from; i < to; i++) {
+                int start = chart.getEventStart(i);
+                int stop = chart.getEventEnd(i);
+                if (stop <= viewStart || start >= viewEnd) continue;
+                int y = chart.getEventLane(i) / lanesPerRow * rowHeight;
+                if (y + barHeight > plotBottom) continue;
+                int x0 = Math.max(LABEL_WIDTH, xOf(start));
+                int x1 = Math.max(x0 + 1, xOf(stop));
+                b.setColor(colorOf(chart.getEventColor(i)));
+                b.fillRect(x0, y, x1 - x0, barHeight);
+                // Rótulo do processo quando difere da raia (ex.: raias de CPU) e cabe na barra
+                if (rowHeight == MAX_ROW_HEIGHT && x1 - x0 > 30) {
+                    String label = chart.getEventLabel(i);
+                    if (!label.equals(chart.getLaneId(chart.getEventLane(i)))) {
+                        b.setColor(Color.BLACK);
+                        b.setClip(x0, y, x1 - x0, barHeight);
+                        b.drawString(label, x0 + 3, y + barHeight - 3);
+                        b.setClip(null);
+                    }
+                }
+            }
+            paintedEvents = to;
+        }
+
+        private void paintLabels(Graphics2D b, int lanes) {
+            if (rowHeight == MAX_ROW_HEIGHT) {
+                b.setColor(Color.DARK_GRAY);
+                b.setFont(getFont().deriveFont(11f));
+                for (int lane = paintedLanes; lane < lanes; lane++) {
+                    if (lane % lanesPerRow != 0) continue;
+                    int y = lane / lanesPerRow * rowHeight;
+                    if (y + rowHeight > buffer.getHeight() - AXIS_HEIGHT) break;
+                    b.setClip(0, y, LABEL_WIDTH - 4, rowHeight);
+                    b.drawString(chart.getLaneId(lane) + (lanesPerRow > 1 ? "…" : ""), 4, y + rowHeight - 4);
+                    b.setClip(null);
+                }
+            }
+            paintedLanes = lanes;
+        }
+
+        private void paintAxis(Graphics2D b) {
+            int y = buffer.getHeight() - AXIS_HEIGHT;
+            b.setColor(Color.BLACK);
+            b.drawLine(LABEL_WIDTH, y, buffer.getWidth(), y);
+            b.drawLine(LABEL_WIDTH, 0, LABEL_WIDTH, y);
+            b.setFont(getFont().deriveFont(10f));
+            long step = axisStep();
+            int viewEnd = viewStart + visibleTicks();
+            for (long t = (viewStart + step - 1) / step * step; t <= viewEnd; t += step) {
+                int x = xOf(t);
+                b.setColor(Color.LIGHT_GRAY);
+                b.drawLine(x, 0, x, y);
+                b.setColor(Color.BLACK);
+                b.drawString(String.valueOf(t), x + 2, y + AXIS_HEIGHT - 5);
+            }
+        }
+
+        // Passo "redondo" (1, 2 ou 5 x 10^k) com pelo menos MIN_AXIS_SPACING pixels entre marcas
+        private long axisStep() {
+            for (long step = 1; ; step *= 10) {
+                for (int m : new int[]{1, 2, 5}) {
+                    if (step * m * zoom >= MIN_AXIS_SPACING) return step * m;
+                }
+            }
+        }
+
+        private void paintRunning(Graphics g) {
+            int plotBottom = getHeight() - AXIS_HEIGHT;
+            if (runningId != null && end > runningStart) {
+                int lane = chart.getLaneIndex(runningId);
+                if (lane < 0) lane = chart.getLaneCount(); // primeira vez: a próxima raia
+                int y = lane / lanesPerRow * rowHeight;
+                int barHeight = rowHeight > 4 ? rowHeight - 2 : rowHeight;
+                int viewEnd = viewStart + visibleTicks();
+                if (y + barHeight <= plotBottom && end > viewStart && runningStart < viewEnd) {
+                    int x0 = Math.max(LABEL_WIDTH, xOf(runningStart));
+                    int x1 = Math.max(x0 + 1, xOf(end));
+                    g.setColor(colorOf(runningColor));
+                    g.fillRect(x0, y, x1 - x0, barHeight);
+                }
+            }
+            // Tempo atual
+            int x = xOf(end);
+            if (x > LABEL_WIDTH && x < getWidth()) {
+                g.setColor(Color.RED);
+                g.drawLine(x, 0, x, plotBottom);
+            }
+        }
+    }
+
+    // Layout das linhas para esse número de raias: altura de linha e raias por linha
+    private void layoutRows(int lanes) {
+        int available = Math.max(MIN_ROW_HEIGHT, timeline.getHeight() - AXIS_HEIGHT);
+        rowHeight = MAX_ROW_HEIGHT;
+        while (rowHeight > MIN_ROW_HEIGHT && (long) lanes * rowHeight > available) {
+            rowHeight /= 2;
+        }
+        lanesPerRow = 1;
+        while ((long) ((lanes + lanesPerRow - 1) / lanesPerRow) * rowHeight > available) {
+            lanesPerRow *= 2;
+        }
+    }
+
+    private boolean layoutFits(int lanes) {
+        int row = rowHeight;
+        int perRow = lanesPerRow;
+        layoutRows(lanes);
+        boolean same = row == rowHeight && perRow == lanesPerRow;
+        rowHeight = row;
+        lanesPerRow = perRow;
+        return same;
+    }
+}
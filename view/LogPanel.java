@@ -0,0 +1,116 @@
+package view;
+
+import model.TraceRing;
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * LogPanel - Log da simulação sobre um TraceRing: uma lista virtualizada (altura fixa por
+ * linha) em que só as linhas visíveis são formatadas e desenhadas. Os registros novos são
+ * incorporados uma vez por quadro, todos de uma vez; quem está no fim da lista acompanha os
+ * novos, quem rolou para trás continua vendo as mesmas linhas enquanto elas estiverem no buffer.
+ */
+public class LogPanel extends JPanel {
+    // Intervalo entre quadros (ms)
+    private static final int FRAME_MS = 50;
+
+    private final TraceRing ring;
+    private final RingModel model = new RingModel();
+    private final JList<String> list = new JList<>(model);
+    private final JScrollPane scrollPane = new JScrollPane(list);
+    private final Timer frameTimer = new Timer(FRAME_MS, e -> refresh());
+
+    // Registros mostrados: [shownFirst, shownTotal)
+    private long shownFirst;
+    private long shownTotal;
+    // Acompanha o fim até o usuário rolar para trás (volta ao rolar até o fim)
+    private boolean follow = true;
+    private boolean syncing;
+
+    public LogPanel(TraceRing ring) {
+        super(new BorderLayout());
+        this.ring = ring;
+        list.setFont(new Font("Monospaced", Font.PLAIN, 12));
+        // Altura e largura fixas: a lista não mede cada linha e só pede as visíveis ao modelo
+        list.setPrototypeCellValue("[t=0000000] Running p0000000000 (runtime=0000/0000, q=00/00) ...");
+        list.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        add(scrollPane, BorderLayout.CENTER);
+        JScrollBar bar = scrollPane.getVerticalScrollBar();
+        bar.addAdjustmentListener(e -> {
+            if (!syncing) follow = bar.getValue() + bar.getVisibleAmount() >= bar.getMaximum() - list.getFixedCellHeight();
+        });
+    }
+
+    public TraceRing getRing() {
+        return ring;
+    }
+
+    @Override
+    public void addNotify() {
+        super.addNotify();
+        frameTimer.start();
+    }
+
+    @Override
+    public void removeNotify() {
+        frameTimer.stop();
+        super.removeNotify();
+    }
+
+    /**
+     * Incorpora os registros gravados desde o último quadro (chamado pelo timer; pode ser
+     * chamado direto para atualizar na hora).
+     */
+    public void refresh() {
+        long total = ring.getTotal();
+        if (total == shownTotal) return;
+
+        long first = Math.max(0, total - ring.getCapacity());
+        int oldSize = (int) (shownTotal - shownFirst);
+        int removed = (int) Math.min(oldSize, first - shownFirst);
+        int kept = oldSize - removed;
+        shownFirst = first;
+        shownTotal = total;
+        int size = (int) (total - first);
+        if (removed > 0) model.removed(removed);
+        if (size > kept) model.added(kept, size - 1);
+
+        // Aplica já o novo tamanho da lista (sem esperar o próximo layout) e ajusta a rolagem:
+        // no fim, mostra a última linha; senão, compensa as linhas que saíram do começo
+        syncing = true;
+        JViewport viewport = scrollPane.getViewport();
+        Dimension view = list.getPreferredSize();
+        viewport.setViewSize(view);
+        Point position = viewport.getViewPosition();
+        if (follow) {
+            position.y = view.height - viewport.getExtentSize().height;
+        } else {
+            position.y -= removed * list.getFixedCellHeight();
+        }
+        position.y = Math.max(0, Math.min(position.y, view.height - viewport.getExtentSize().height));
+        viewport.setViewPosition(position);
+        syncing = false;
+    }
+
+    // Modelo sobre a janela [shownFirst, shownTotal) do buffer; formata só o que a lista pede
+    private class RingModel extends AbstractListModel<String> {
+        @Override
+        public int getSize() {
+            return (int) (shownTotal - shownFirst);
+        }
+
+        @Override
+        public String getElementAt(int index) {
+            String line = ring.getLine(shownFirst + index);
+            return line != null ? line : ""; // já sobrescrito; some no próximo quadro
+        }
+
+        void removed(int count) {
+            fireIntervalRemoved(this, 0, count - 1);
+        }
+
+        void added(int from, int to) {
+            fireIntervalAdded(this, from, to);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package view;
+
+import controller.SimController;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * SimulationWorker - Executa os ticks da simulação numa thread própria, fora da thread do
+ * Swing, na velocidade pedida (ticks por segundo, 0 = sem limite). Os ticks rodam em lotes
+ * curtos segurando o lock; quem lê o estado da simulação em outra thread (ex.: um quadro da
+ * UI) segura o mesmo lock. O lock é justo: um leitor esperando entra logo após o lote atual.
+ */
+public class SimulationWorker {
+    // Tempo máximo de um lote com o lock (ns): limita a espera de um quadro da UI
+    private static final long BATCH_NANOS = 2_000_000L;
+    // Ticks por chamada de advance() dentro do lote
+    private static final int CHUNK = 256;
+    // Maior pausa entre lotes (ns), para reagir rápido a pausa e mudança de velocidade
+    private static final long MAX_PARK_NANOS = 10_000_000L;
+
+    private final SimController controller;
+    private final ReentrantLock lock = new ReentrantLock(true);
+    private volatile int speed;
+    private volatile boolean running;
+    private Thread thread;
+
+    public SimulationWorker(SimController controller, int speed) {
+        this.controller = controller;
+        setSpeed(speed);
+    }
+
+    public ReentrantLock getLock() {
+        return lock;
+    }
+
+    // Ticks por segundo (0 = tão rápido quanto possível); vale já para o próximo lote
+    public void setSpeed(int speed) {
+        this.speed = Math.max(0, speed);
+    }
+
+    public int getSpeed() {
+        return speed;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public synchronized void start() {
+        if (running || controller.isFinished()) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::runLoop, "Simulation-Worker");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Pausa a execução e espera o lote em andamento terminar.
+     */
+    public synchronized void pause() {
+        running = false;
+        join();
+    }
+
+    /**
+     * Espera a thread terminar (pausa ou fim da simulação).
+     */
+    public void join() {
+        Thread t = thread;
+        if (t != null && t != Thread.currentThread()) {
+            try {
+                t.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Executa um tick com o lock (ex.: passo a passo, com a thread parada).
+     */
+    public void step() {
+        lock.lock();
+        try {
+            if (!controller.isFinished()) {
+                controller.getClock().tick();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runLoop() {
+        // Ritmo medido desde o início (ou da última troca de velocidade): não acumula atraso
+        long base = System.nanoTime();
+        long done = 0;
+        int pace = speed;
+        while (running) {
+            long now = System.nanoTime();
+            if (speed != pace) {
+                pace = speed;
+                base = now;
+                done = 0;
+            }
+            long due = pace > 0 ? (long) ((now - base) * (pace / 1e9)) - done : Long.MAX_VALUE;
+            if (due <= 0) {
+                long next = base + (long) ((done + 1) * (1e9 / pace));
+                LockSupport.parkNanos(Math.min(MAX_PARK_NANOS, next - now));
+                continue;
+            }
+            long deadline = now + BATCH_NANOS;
+            lock.lock();
+            try {
+                long n = 0;
+                while (n < due && running && !controller.isFinished()) {
+                    n += controller.getClock().advance((int) Math.min(due - n, CHUNK));
+                    if (System.nanoTime() > deadline) break;
+                }
+                done += n;
+                if (controller.isFinished()) running = false;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -53,7 +53,7 @@ public class UIConfigurator extends JFrame {
         
         // Algoritmo
         panel.add(new JLabel("Algoritmo de Escalonamento:"));
-        algorithmCombo = new JComboBox<>(new String[]{"FIFO", "SRTF", "PRIOP"});
+        algorithmCombo = new JComboBox<>(new String[]{"FIFO", "SRTF", "PRIOP", "RR", "MLFQ", "CFS"});
         panel.add(algorithmCombo);
         
         // Quantum
@@ -123,7 +123,7 @@ public class UIConfigurator extends JFrame {
             
             // Atualiza UI com os valores do arquivo
             algorithmCombo.setSelectedItem(currentConfig.getAlgorithmName());
-            quantumField.setText(String.valueOf(currentConfig.getQuantum()));
+            quantumField.setText(currentConfig.formatQuantums());
             
             // Mostra informações no text area
             displayConfigInfo();
@@ -145,7 +145,7 @@ public class UIConfigurator extends JFrame {
         StringBuilder sb = new StringBuilder();
         sb.append("=== CONFIGURAÇÃO DA SIMULAÇÃO ===\n\n");
         sb.append("Algoritmo: ").append(currentConfig.getAlgorithmName()).append("\n");
-        sb.append("Quantum: ").append(currentConfig.getQuantum()).append("\n\n");
+        sb.append("Quantum: ").append(currentConfig.formatQuantums()).append("\n\n");
         sb.append("=== PROCESSOS ===\n");
         
         if (currentConfig.getProcessList().isEmpty()) {
@@ -178,9 +178,10 @@ public class UIConfigurator extends JFrame {
         // Atualiza configuração com valores da UI
         currentConfig.setAlgorithmName((String) algorithmCombo.getSelectedItem());
         try {
-            currentConfig.setQuantum(Integer.parseInt(quantumField.getText()));
-        } catch (NumberFormatException e) {
-            JOptionPane.showMessageDialog(this, "Quantum deve ser um número válido.");
+            // Um quantum ou um por nível do MLFQ (ex.: 2,4,8)
+            currentConfig.setQuantums(SimulationConfig.parseQuantums(quantumField.getText()));
+        } catch (IllegalArgumentException e) {
+            JOptionPane.showMessageDialog(this, "Quantum deve ser um número válido (ou uma lista, ex.: 2,4,8).");
             return;
         }
         
@@ -2,6 +2,7 @@ package view;
 
 import controller.SimController;
 import model.Process;
+import model.RunSummary;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
@@ -11,6 +12,8 @@ import java.io.PrintWriter;
 
 public class UIResult extends JFrame {
     private SimController controller;
+    // Totais da execução (da simulação ou do replay de um rastro binário)
+    private RunSummary summary;
     
     private JTextArea resultTextArea;
     private JButton showGanttButton;
@@ -19,6 +22,14 @@ public class UIResult extends JFrame {
     
     public UIResult(SimController controller) {
         this.controller = controller;
+        this.summary = controller.getSummary();
+        initializeUI();
+        displayResults();
+    }
+
+    public UIResult(RunSummary summary) {
+        // Resultados de uma execução reproduzida (sem a tabela de processos)
+        this.summary = summary;
         initializeUI();
         displayResults();
     }
@@ -94,46 +105,52 @@ public class UIResult extends JFrame {
         StringBuilder sb = new StringBuilder();
         
         sb.append("=== RESULTADOS DA SIMULAÇÃO ===\n\n");
-        sb.append("Tempo Final: ").append(controller.getCurrentTime()).append("\n\n");
-        
-        sb.append("=== ESTATÍSTICAS DOS PROCESSOS ===\n");
-        
-        // Estatísticas básicas dos processos
-        int totalProcesses = 0;
-        int completedProcesses = 0;
-        int totalExecutionTime = 0;
-        int totalWaitTime = 0;
-        
-        // Em uma implementação real, você obteria essas informações do controller
-        // Por enquanto, vamos usar dados de exemplo
-        for (int i = 1; i <= 3; i++) {
-            int execTime = i * 2;
-            int waitTime = i;
-            boolean completed = i < 3;
-            
-            sb.append(String.format("Processo P%d: Execução=%d, Espera=%d, Concluído=%s\n",
-                    i, execTime, waitTime, completed ? "Sim" : "Não"));
+        sb.append("Algoritmo: ").append(summary.getAlgorithm())
+          .append(" (quantum ").append(summary.getQuantum()).append(")\n");
+        sb.append("Tempo Final: ").append(summary.getFinalTime()).append("\n\n");
+        
+        if (controller != null) {
+            sb.append("=== ESTATÍSTICAS DOS PROCESSOS ===\n");
             
-            totalProcesses++;
-            if (completed) completedProcesses++;
-            totalExecutionTime += execTime;
-            totalWaitTime += waitTime;
+            // Estado de cada processo na tabela da simulação (limitado para cargas grandes)
+            int shown = 0;
+            for (Process p : controller.getProcesses()) {
+                if (p.getId() == null) continue; // linha liberada em streaming
+                if (shown++ == 1000) {
+                    sb.append("...\n");
+                    break;
+                }
+                sb.append(String.format("Processo %s: Execução=%d, Espera=%d, Concluído=%s\n",
+                        p.getId(), p.getRunTime(), p.getWaitTime(), p.isCompleted() ? "Sim" : "Não"));
+            }
+            sb.append("\n");
         }
         
-        sb.append("\n=== ESTATÍSTICAS GERAIS ===\n");
+        long totalProcesses = summary.getProcesses();
+        long completedProcesses = summary.getCompleted();
+        sb.append("=== ESTATÍSTICAS GERAIS ===\n");
         sb.append(String.format("Processos Totais: %d\n", totalProcesses));
         sb.append(String.format("Processos Concluídos: %d\n", completedProcesses));
-        sb.append(String.format("Taxa de Conclusão: %.1f%%\n", (completedProcesses * 100.0 / totalProcesses)));
-        sb.append(String.format("Tempo Total de Execução: %d\n", totalExecutionTime));
-        sb.append(String.format("Tempo Total de Espera: %d\n", totalWaitTime));
-        
-        if (controller.getCurrentTime() > 0) {
+        sb.append(String.format("Taxa de Conclusão: %.1f%%\n",
+                totalProcesses > 0 ? completedProcesses * 100.0 / totalProcesses : 0.0));
+        sb.append(String.format("Trocas de Contexto: %d\n", summary.getContextSwitches()));
+        sb.append(String.format("Tempo Total de Espera: %d\n", summary.getTotalWait()));
+        sb.append(String.format("Espera Média: %.2f\n", summary.getAvgWait()));
+        sb.append(String.format("Turnaround Médio: %.2f\n", summary.getAvgTurnaround()));
+        
+        if (summary.getFinalTime() > 0) {
             sb.append(String.format("Throughput: %.2f processos/unidade tempo\n", 
-                    totalProcesses / (double) controller.getCurrentTime()));
+                    completedProcesses / (double) summary.getFinalTime()));
         } else {
             sb.append("Throughput: N/A\n");
         }
         
+        if (summary.getStats() != null) {
+            // Resposta, espera e turnaround por prioridade, sem guardar cada amostra
+            sb.append("\n=== DISTRIBUIÇÕES (ticks) ===\n");
+            sb.append(summary.getStats().formatTable());
+        }
+        
         resultTextArea.setText(sb.toString());
     }
     
@@ -1,30 +1,50 @@
 package view;
 
 import controller.SimController;
+import model.Process;
 import model.SimulationConfig;
 import model.SystemClock;
+import model.TraceSink;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.util.concurrent.locks.Lock;
 
 public class UIRunner extends JFrame {
+    // Registros do rastro guardados para o log (os mais antigos vão saindo)
+    private static final int LOG_CAPACITY = 200_000;
+    // Intervalo entre quadros da execução automática (ms): ~30 por segundo, qualquer velocidade
+    private static final int FRAME_MS = 33;
+    // Velocidades oferecidas (ticks por segundo; 0 = sem limite)
+    private static final int[] SPEEDS = {10, 100, 1_000, 10_000, 100_000, 0};
+    private static final String[] SPEED_NAMES = {"10 ticks/s", "100 ticks/s", "1.000 ticks/s",
+            "10.000 ticks/s", "100.000 ticks/s", "Máxima"};
+
     private SimController controller;
+    private TraceSink trace;
     private SimulationConfig config;
     
     private JLabel timeLabel;
     private JLabel currentProcessLabel;
-    private JTextArea logTextArea;
+    private LogPanel logPanel;
     private JButton stepButton;
     private JButton autoButton;
     private JButton stopButton;
-    private JPanel ganttPanel;
-    private Timer autoTimer;
+    private JComboBox<String> speedBox;
+    private GanttPanel ganttPanel;
+    // Execução automática: a simulação roda no worker e a UI só lê um quadro a cada FRAME_MS
+    private SimulationWorker worker;
+    private Timer frameTimer;
     
     public UIRunner(SimulationConfig config) {
         this.config = config;
         // Usa um intervalo maior para a UI (2 segundos) para ser mais visível
         this.controller = new SimController(new SystemClock(2000), config);
+        // Rastro completo num buffer circular, lido pelo log só nas linhas visíveis
+        this.trace = TraceSink.toRing(TraceSink.FULL, LOG_CAPACITY);
+        controller.setTrace(trace);
+        this.worker = new SimulationWorker(controller, SPEEDS[0]);
         initializeUI();
     }
     
@@ -41,26 +61,24 @@ public class UIRunner extends JFrame {
         // Painel de informações
         mainPanel.add(createInfoPanel(), BorderLayout.NORTH);
         
-        // Painel do Gantt (simulado)
-        ganttPanel = new JPanel();
-        ganttPanel.setBackground(Color.WHITE);
-        ganttPanel.setBorder(BorderFactory.createTitledBorder("Visualização do Gantt Chart"));
+        // Gantt ao vivo, desenhado a partir do GanttChart da simulação
+        ganttPanel = new GanttPanel(controller.getGanttChart());
+        ganttPanel.setLock(worker.getLock());
+        ganttPanel.setBorder(BorderFactory.createTitledBorder("Gantt Chart (Ctrl + roda: zoom, duplo clique: acompanhar)"));
         ganttPanel.setPreferredSize(new Dimension(800, 200));
         mainPanel.add(ganttPanel, BorderLayout.CENTER);
         
         // Área de logs
-        logTextArea = new JTextArea(10, 60);
-        logTextArea.setEditable(false);
-        logTextArea.setFont(new Font("Monospaced", Font.PLAIN, 12));
-        JScrollPane scrollPane = new JScrollPane(logTextArea);
-        scrollPane.setBorder(BorderFactory.createTitledBorder("Logs de Execução"));
-        mainPanel.add(scrollPane, BorderLayout.SOUTH);
+        logPanel = new LogPanel(trace.getRing());
+        logPanel.setBorder(BorderFactory.createTitledBorder("Logs de Execução"));
+        logPanel.setPreferredSize(new Dimension(800, 200));
+        mainPanel.add(logPanel, BorderLayout.SOUTH);
         
         // Painel de controle
         mainPanel.add(createControlPanel(), BorderLayout.EAST);
         
         add(mainPanel);
-        updateDisplay();
+        updateFrame();
     }
     
     private JPanel createInfoPanel() {
@@ -101,6 +119,11 @@ public class UIRunner extends JFrame {
             }
         });
         
+        speedBox = new JComboBox<>(SPEED_NAMES);
+        speedBox.setMaximumSize(speedBox.getPreferredSize());
+        speedBox.setAlignmentX(Component.LEFT_ALIGNMENT);
+        speedBox.addActionListener(e -> worker.setSpeed(SPEEDS[speedBox.getSelectedIndex()]));
+        
         stopButton = new JButton("Parar e Finalizar");
         stopButton.addActionListener(new ActionListener() {
             @Override
@@ -112,6 +135,9 @@ public class UIRunner extends JFrame {
         panel.add(stepButton);
         panel.add(Box.createRigidArea(new Dimension(0, 10)));
         panel.add(autoButton);
+        panel.add(Box.createRigidArea(new Dimension(0, 5)));
+        panel.add(new JLabel("Velocidade:"));
+        panel.add(speedBox);
         panel.add(Box.createRigidArea(new Dimension(0, 10)));
         panel.add(stopButton);
         
@@ -120,25 +146,22 @@ public class UIRunner extends JFrame {
     
     private void executeStep() {
         // Para execução automática se estiver rodando
-        if (autoTimer != null && autoTimer.isRunning()) {
-            autoTimer.stop();
-            autoButton.setText("Execução Automática");
+        if (worker.isRunning()) {
+            stopAutoExecution();
         }
         
         // Executa um tick manualmente
-        controller.getClock().tick();
-        updateDisplay();
-        updateGanttChart();
+        worker.step();
         
         // Verifica se todos os processos terminaram
-        if (allProcessesCompleted()) {
+        if (updateFrame()) {
             JOptionPane.showMessageDialog(this, "Todos os processos foram concluídos!");
             stopSimulation();
         }
     }
     
     private void toggleAutoExecution() {
-        if (autoTimer == null || !autoTimer.isRunning()) {
+        if (frameTimer == null || !frameTimer.isRunning()) {
             startAutoExecution();
         } else {
             stopAutoExecution();
@@ -146,33 +169,32 @@ public class UIRunner extends JFrame {
     }
     
     private void startAutoExecution() {
-        autoTimer = new Timer(100, new ActionListener() { // 100ms entre atualizações
+        // Os ticks rodam no worker; a UI pega o estado mais recente a cada quadro e pula os do meio
+        worker.start();
+        frameTimer = new Timer(FRAME_MS, new ActionListener() {
             @Override
             public void actionPerformed(ActionEvent e) {
-                if (!allProcessesCompleted()) {
-                    // Para simulação automática, usamos tick() diretamente
-                    // em vez de start() para ter mais controle
-                    controller.getClock().tick();
-                    updateDisplay();
-                    updateGanttChart();
-                } else {
-                    stopAutoExecution();
-                    JOptionPane.showMessageDialog(UIRunner.this, 
-                        "Simulação concluída! Todos os processos finalizados.");
-                    stopSimulation();
+                if (!updateFrame()) {
+                    return;
                 }
+                stopAutoExecution();
+                JOptionPane.showMessageDialog(UIRunner.this, 
+                    "Simulação concluída! Todos os processos finalizados.");
+                stopSimulation();
             }
         });
         
-        autoTimer.start();
+        frameTimer.start();
         autoButton.setText("Pausar Execução");
         stepButton.setEnabled(false);
     }
     
     private void stopAutoExecution() {
-        if (autoTimer != null) {
-            autoTimer.stop();
+        if (frameTimer != null) {
+            frameTimer.stop();
         }
+        worker.pause();
+        updateFrame();
         autoButton.setText("Execução Automática");
         stepButton.setEnabled(true);
     }
@@ -189,42 +211,49 @@ public class UIRunner extends JFrame {
         this.dispose();
     }
     
-    private void updateDisplay() {
-        int currentTime = controller.getCurrentTime();
-        timeLabel.setText(String.valueOf(currentTime));
-        
-        // Atualiza logs - mostra informações básicas
-        logTextArea.append("[t=" + currentTime + "] Simulação em andamento...\n");
-        
-        // Mantém apenas os últimos 1000 caracteres no log para não ficar muito pesado
-        if (logTextArea.getText().length() > 1000) {
-            logTextArea.setText(logTextArea.getText().substring(logTextArea.getText().length() - 1000));
+    /**
+     * Copia o estado atual da simulação com o lock do worker e atualiza os rótulos e o Gantt
+     * (o log lê o rastro sozinho, uma vez por quadro). Retorna true se a simulação terminou.
+     */
+    private boolean updateFrame() {
+        int currentTime;
+        String runningId;
+        int runningStart;
+        int runningColor;
+        boolean finished;
+        Lock lock = worker.getLock();
+        lock.lock();
+        try {
+            currentTime = controller.getCurrentTime();
+            Process running = controller.getCurrentProcess();
+            runningId = running != null ? running.getId() : null;
+            runningStart = controller.getCurrentStartTime();
+            runningColor = running != null ? running.getColor() : 0;
+            finished = allProcessesCompleted();
+        } finally {
+            lock.unlock();
         }
-        
-        logTextArea.setCaretPosition(logTextArea.getDocument().getLength());
+        timeLabel.setText(String.valueOf(currentTime));
+        currentProcessLabel.setText(runningId != null ? runningId : "Nenhum");
+        // Só informa o tempo e o processo atual: o painel pinta os intervalos novos no repaint
+        ganttPanel.update(currentTime, runningId, runningStart, runningColor);
+        return finished;
     }
     
-    private void updateGanttChart() {
-        // Simulação básica da atualização do Gantt Chart
-        ganttPanel.removeAll();
-        ganttPanel.setLayout(new BorderLayout());
-        
-        JLabel ganttLabel = new JLabel("Gantt Chart - Tempo: " + controller.getCurrentTime() + 
-                                      " | Algoritmo: " + config.getAlgorithmName(), JLabel.CENTER);
-        ganttLabel.setFont(new Font("Arial", Font.BOLD, 16));
-        ganttPanel.add(ganttLabel, BorderLayout.CENTER);
-        
-        ganttPanel.revalidate();
-        ganttPanel.repaint();
+    @Override
+    public void dispose() {
+        // Fechar a janela também para a simulação
+        if (frameTimer != null) {
+            frameTimer.stop();
+        }
+        worker.pause();
+        super.dispose();
+        // Encerra a thread do rastro
+        trace.close();
     }
-    
+
     private boolean allProcessesCompleted() {
-        // Verifica se todos os processos foram concluídos
-        for (model.Process p : config.getProcessList()) {
-            if (!p.isCompleted() && p.getStartTime() <= controller.getCurrentTime()) {
-                return false;
-            }
-        }
-        return true;
+        // A simulação trabalha sobre sua própria tabela de processos; o controller sabe quando acabou
+        return controller.isFinished();
     }
 }
\ No newline at end of file